@@ -1,13 +1,5 @@
 package io.github._3xhaust;
 
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.core.util.DefaultIndenter;
-import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.sun.net.httpserver.Headers;
-import com.sun.net.httpserver.HttpExchange;
-import com.sun.net.httpserver.HttpServer;
 import io.github._3xhaust.annotations.Controller;
 import io.github._3xhaust.annotations.HttpCode;
 import io.github._3xhaust.annotations.Inject;
@@ -18,10 +10,19 @@ import io.github._3xhaust.exceptions.HttpException;
 import io.github._3xhaust.http.HttpMethod;
 import io.github._3xhaust.orm.AvnoiOrmModule;
 import io.github._3xhaust.orm.DataSourceOptions;
+import io.github._3xhaust.orm.annotations.Transactional;
+import io.github._3xhaust.orm.exceptions.UniqueConstraintViolationException;
 import io.github._3xhaust.orm.repository.RepositoryFactory;
 import io.github._3xhaust.orm.repository.RepositoryFactoryImpl;
 import io.github._3xhaust.routing.RouteHandler;
+import io.github._3xhaust.routing.RouteMatch;
 import io.github._3xhaust.routing.Router;
+import io.github._3xhaust.serialization.JsonCodec;
+import io.github._3xhaust.server.ExecutorOptions;
+import io.github._3xhaust.server.RequestHandler;
+import io.github._3xhaust.server.ServerEngine;
+import io.github._3xhaust.server.ServerExchange;
+import io.github._3xhaust.server.SunHttpServerEngine;
 import lombok.Getter;
 
 import java.io.IOException;
@@ -31,14 +32,16 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ExecutorService;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 public class Avnoi {
     private static final String ANSI_RESET = "\u001B[0m";
@@ -60,6 +63,8 @@ public class Avnoi {
     private static boolean isOrmRequired = false;
 
     private static CorsOptions corsOptions = new CorsOptions();
+    private static ExecutorOptions executorOptions = new ExecutorOptions();
+    private static ServerEngine serverEngine = new SunHttpServerEngine();
 
     public Avnoi(Class<?> modules) throws InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
         try {
@@ -75,7 +80,11 @@ public class Avnoi {
         }
 
         scanAndInitialize(modules);
-        this.dispatcher = new ControllerDispatcher(applicationContext);
+
+        if (isOrmRequired) {
+            ((RepositoryFactory) applicationContext.get(RepositoryFactory.class)).synchronizeSchema();
+        }
+        this.dispatcher = new ControllerDispatcher((RepositoryFactory) applicationContext.get(RepositoryFactory.class));
     }
 
     private void checkOrmRequirement(Class<?> modules) {
@@ -103,6 +112,28 @@ public class Avnoi {
                 Avnoi.enableCors((Map<String, Object>) options.get("cors"));
             }
         }
+        if (options.containsKey("engine")) {
+            if (options.get("engine") instanceof String) {
+                Avnoi.useEngine(ServerEngine.of((String) options.get("engine")));
+            } else if (options.get("engine") instanceof ServerEngine) {
+                Avnoi.useEngine((ServerEngine) options.get("engine"));
+            }
+        }
+        if (options.containsKey("executor")) {
+            if (options.get("executor") instanceof String) {
+                Avnoi.useExecutor(Map.of("mode", options.get("executor")));
+            } else if (options.get("executor") instanceof Map) {
+                //noinspection unchecked
+                Avnoi.useExecutor((Map<String, Object>) options.get("executor"));
+            }
+        }
+        if (options.containsKey("json")) {
+            if (options.get("json") instanceof String) {
+                Avnoi.useJsonProfile(JsonCodec.Profile.valueOf(((String) options.get("json")).trim().toUpperCase()));
+            } else if (options.get("json") instanceof JsonCodec.Profile) {
+                Avnoi.useJsonProfile((JsonCodec.Profile) options.get("json"));
+            }
+        }
         Avnoi.run(modules);
     }
     public static void run(Class<?> modules) {
@@ -115,18 +146,18 @@ public class Avnoi {
     }
 
     private void run() {
-        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(10);
+        ExecutorService executor = executorOptions.createExecutor();
         try {
-            HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
-            server.createContext("/", new AvnoiHandler());
-            server.setExecutor(threadPoolExecutor);
-            server.start();
+            serverEngine.start(new InetSocketAddress(port), new AvnoiHandler(), executor);
 
             System.out.println("\n" + ANSI_BOLD + ANSI_PURPLE + "▲ Avnoi " + version + ANSI_RESET);
             System.out.println("- Local:              http://localhost:" + port);
+            System.out.println("- Engine:             " + serverEngine.getName());
+            System.out.println("- Executor:           " + executorOptions.describe());
             System.out.println();
 
         } catch (IOException e) {
+            executor.shutdown();
             System.err.println("An issue occurred while starting the server: " + e.getMessage());
             System.err.println("Please check if port " + port + " is already in use.");
             System.err.println("To use a different port, call Avnoi.listen(portNumber).");
@@ -137,6 +168,23 @@ public class Avnoi {
         Avnoi.port = listeningPort;
     }
 
+    public static void useEngine(ServerEngine engine) {
+        serverEngine = engine;
+    }
+
+    public static void useJsonProfile(JsonCodec.Profile profile) {
+        JsonCodec.configure(profile);
+    }
+
+    public static void useVirtualThreads() {
+        executorOptions = new ExecutorOptions();
+        executorOptions.setMode(ExecutorOptions.Mode.VIRTUAL);
+    }
+
+    public static void useExecutor(Map<String, Object> options) {
+        executorOptions = new ExecutorOptions(options);
+    }
+
     private void scanAndInitialize(Class<?> modules) throws InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
         if (modules.isAnnotationPresent(io.github._3xhaust.annotations.Module.class)) {
             io.github._3xhaust.annotations.Module moduleAnnotation = modules.getAnnotation(io.github._3xhaust.annotations.Module.class);
@@ -145,7 +193,7 @@ public class Avnoi {
                 scanAndInitialize(importedModule);
             }
 
-            if (isOrmRequired) {
+            if (isOrmRequired && !applicationContext.containsKey(RepositoryFactory.class)) {
                 DataSourceOptions dataSourceOptions = AvnoiOrmModule.getDataSourceOptions();
                 RepositoryFactory repositoryFactory = new RepositoryFactoryImpl(dataSourceOptions);
                 applicationContext.put(RepositoryFactory.class, repositoryFactory);
@@ -155,6 +203,7 @@ public class Avnoi {
                 if (!providerClass.isAnnotationPresent(Service.class)) {
                     throw new IllegalArgumentException("Class must be annotated with @Service: " + providerClass.getName());
                 }
+                checkTransactionalMethods(providerClass, false);
                 registerInstance(providerClass);
             }
 
@@ -162,6 +211,7 @@ public class Avnoi {
                 if (!controllerClass.isAnnotationPresent(Controller.class)) {
                     throw new IllegalArgumentException("Class must be annotated with @Controller: " + controllerClass.getName());
                 }
+                checkTransactionalMethods(controllerClass, true);
                 registerInstance(controllerClass);
                 mapController(controllerClass);
             }
@@ -170,6 +220,22 @@ public class Avnoi {
         DependencyInjector.injectDependencies(applicationContext);
     }
 
+    private void checkTransactionalMethods(Class<?> clazz, boolean controller) {
+        for (Method method : clazz.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(Transactional.class) && !(controller && isRouteMethod(method))) {
+                throw new IllegalArgumentException("@Transactional is only supported on controller routes: " + clazz.getName() + "." + method.getName()
+                        + ". Use RepositoryFactory.transaction(...) inside services.");
+            }
+        }
+    }
+
+    private boolean isRouteMethod(Method method) {
+        return method.isAnnotationPresent(Get.class) || method.isAnnotationPresent(Post.class)
+                || method.isAnnotationPresent(Put.class) || method.isAnnotationPresent(Patch.class)
+                || method.isAnnotationPresent(Delete.class) || method.isAnnotationPresent(Header.class)
+                || method.isAnnotationPresent(Options.class) || method.isAnnotationPresent(All.class);
+    }
+
     private void registerInstance(Class<?> clazz) throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
         Object instance = createInstance(clazz);
         applicationContext.put(clazz, instance);
@@ -238,7 +304,7 @@ public class Avnoi {
 
         path = baseUrl + path;
         int statusCode = getStatusCodeFromAnnotation(method);
-        router.registerRoute(httpMethod, path, method, statusCode);
+        router.registerRoute(httpMethod, path, applicationContext.get(method.getDeclaringClass()), method, statusCode);
 
         if (method.isAnnotationPresent(io.github._3xhaust.annotations.Redirect.class)) {
             io.github._3xhaust.annotations.Redirect redirectAnnotation = method.getAnnotation(io.github._3xhaust.annotations.Redirect.class);
@@ -311,63 +377,40 @@ public class Avnoi {
         }
         return "";
     }
-    private class AvnoiHandler implements com.sun.net.httpserver.HttpHandler {
-        private final ObjectMapper objectMapper;
-
-        public AvnoiHandler() {
-            objectMapper = new ObjectMapper();
-            objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
-
-            DefaultPrettyPrinter.Indenter indenter = new DefaultIndenter("  ", "\n");
-            DefaultPrettyPrinter printer = new DefaultPrettyPrinter() {
-                @Override
-                public DefaultPrettyPrinter createInstance() {
-                    return new DefaultPrettyPrinter(this);
-                }
-
-                @Override
-                public void writeObjectFieldValueSeparator(JsonGenerator jg) throws IOException {
-                    jg.writeRaw(": ");
-                }
-            };
-            printer.indentObjectsWith(indenter);
-            printer.indentArraysWith(indenter);
-
-            objectMapper.setDefaultPrettyPrinter(printer);
-        }
+    private class AvnoiHandler implements RequestHandler {
+        private final JsonCodec jsonCodec = JsonCodec.shared();
 
         @Override
-        public void handle(HttpExchange exchange) {
+        public void handle(ServerExchange exchange) {
             try {
                 long startTime = System.currentTimeMillis();
                 String method = exchange.getRequestMethod();
-                String path = exchange.getRequestURI().getPath();
+                String path = exchange.getPath();
 
-                Headers responseHeaders = exchange.getResponseHeaders();
-                String requestOrigin = exchange.getRequestHeaders().getFirst("Origin");
+                String requestOrigin = exchange.getRequestHeader("Origin");
 
                 if (requestOrigin != null) {
-                    responseHeaders.set("Access-Control-Allow-Origin", getAllowedOrigin(requestOrigin));
+                    exchange.setResponseHeader("Access-Control-Allow-Origin", getAllowedOrigin(requestOrigin));
 
                     if (corsOptions.getCredentials() != null && corsOptions.getCredentials()) {
-                        responseHeaders.set("Access-Control-Allow-Credentials", "true");
+                        exchange.setResponseHeader("Access-Control-Allow-Credentials", "true");
                     }
                     if (corsOptions.getAllowedHeaders() != null) {
-                        responseHeaders.set("Access-Control-Allow-Headers", String.join(",", corsOptions.getAllowedHeaders()));
+                        exchange.setResponseHeader("Access-Control-Allow-Headers", String.join(",", corsOptions.getAllowedHeaders()));
                     }
                     if (corsOptions.getExposedHeaders() != null) {
-                        responseHeaders.set("Access-Control-Expose-Headers", String.join(",", corsOptions.getExposedHeaders()));
+                        exchange.setResponseHeader("Access-Control-Expose-Headers", String.join(",", corsOptions.getExposedHeaders()));
                     }
                     if (corsOptions.getMethods() != null) {
-                        responseHeaders.set("Access-Control-Allow-Methods", String.join(",", corsOptions.getMethods()));
+                        exchange.setResponseHeader("Access-Control-Allow-Methods", String.join(",", corsOptions.getMethods()));
                     }
                     if (corsOptions.getMaxAge() != null && corsOptions.getMaxAge() > 0) {
-                        responseHeaders.set("Access-Control-Max-Age", corsOptions.getMaxAge().toString());
+                        exchange.setResponseHeader("Access-Control-Max-Age", corsOptions.getMaxAge().toString());
                     }
                 }
 
                 if ("OPTIONS".equals(method)) {
-                    responseHeaders.set("Allow", "GET,HEAD,PUT,PATCH,POST,DELETE");
+                    exchange.setResponseHeader("Allow", "GET,HEAD,PUT,PATCH,POST,DELETE");
 
                     int optionsStatusCode = corsOptions.getOptionsSuccessStatus() != null
                             ? corsOptions.getOptionsSuccessStatus()
@@ -377,49 +420,32 @@ public class Avnoi {
                 }
 
                 try {
-                    int statusCode = 200;
-                    String responseBody = "";
-
-                    RouteHandler routeHandler = router.findHandler(HttpMethod.valueOf(method), path);
-                    if (routeHandler != null) {
-                        Method handler = routeHandler.getHandlerMethod();
-                        statusCode = routeHandler.getStatusCode();
+                    RouteMatch match = router.match(HttpMethod.valueOf(method), path);
+                    if (match == null) {
+                        sendResponse(exchange, 404, "The requested page could not be found. Please check the URL and try again.");
+                        logRequest(method, path, 404, startTime);
+                        return;
+                    }
 
-                        Object result = dispatcher.dispatch(handler, exchange);
+                    RouteHandler routeHandler = match.getHandler();
+                    Object result = dispatcher.dispatch(match, exchange);
 
-                        if (result instanceof CompletableFuture) {
+                    if (result instanceof CompletableFuture) {
+                        ((CompletableFuture<?>) result).whenComplete((value, error) -> {
+                            if (error != null) {
+                                handleException(exchange, error, method, path, startTime);
+                                return;
+                            }
                             try {
-                                result = ((CompletableFuture<?>) result).get();
-                            } catch (InterruptedException | ExecutionException e) {
+                                completeExchange(exchange, routeHandler, value, method, path, startTime);
+                            } catch (Exception e) {
                                 handleException(exchange, e, method, path, startTime);
-                                return;
                             }
-                        }
-
-                        if (result instanceof String) {
-                            responseBody = (String) result;
-                        } else if (result instanceof Map && ((Map<?, ?>) result).containsKey("url") && handler.isAnnotationPresent(io.github._3xhaust.annotations.Redirect.class)) {
-                            statusCode = handler.getAnnotation(io.github._3xhaust.annotations.Redirect.class).statusCode();
-                            exchange.getResponseHeaders().add("Location", ((Map<?, ?>) result).get("url").toString());
-                        } else {
-                            responseBody = objectMapper.writeValueAsString(result);
-                        }
-                    } else {
-                        statusCode = 404;
-                        responseBody = "The requested page could not be found. Please check the URL and try again.";
+                        });
+                        return;
                     }
 
-                    sendResponse(exchange, statusCode, responseBody);
-
-                    long endTime = System.currentTimeMillis();
-                    long processingTime = endTime - startTime;
-                    String statusColor = statusCode < 300  ? ANSI_GREEN : statusCode < 400 ?  ANSI_YELLOW : ANSI_RED;
-                    System.out.printf("[%s] %s %s %s%d%s in %dms\n",
-                            ANSI_CYAN + LocalDateTime.now().format(dateTimeFormatter) + ANSI_RESET,
-                            method,
-                            path,
-                            ANSI_BOLD + statusColor, statusCode, ANSI_RESET,
-                            processingTime);
+                    completeExchange(exchange, routeHandler, result, method, path, startTime);
                 } catch (Exception e) {
                     handleException(exchange, e, method, path, startTime);
                 }
@@ -428,53 +454,86 @@ public class Avnoi {
             }
         }
 
-        private void handleException(HttpExchange exchange, Exception e, String method, String path, long startTime) {
+        private void completeExchange(ServerExchange exchange, RouteHandler routeHandler, Object result, String method, String path, long startTime) throws IOException {
+            int statusCode = routeHandler.getStatusCode();
+
+            if (result instanceof String) {
+                sendResponse(exchange, statusCode, (String) result);
+            } else if (routeHandler.isRedirect() && result instanceof Map && ((Map<?, ?>) result).containsKey("url")) {
+                statusCode = routeHandler.getRedirectStatusCode();
+                exchange.addResponseHeader("Location", ((Map<?, ?>) result).get("url").toString());
+                sendResponse(exchange, statusCode, "");
+            } else if (result instanceof Stream<?> stream) {
+                jsonCodec.writeStream(exchange, statusCode, stream);
+            } else {
+                jsonCodec.write(exchange, statusCode, routeHandler.getResponseWriter(), result);
+            }
+
+            logRequest(method, path, statusCode, startTime);
+        }
+
+        private void handleException(ServerExchange exchange, Throwable e, String method, String path, long startTime) {
             try {
                 int statusCode = 500;
-                String responseBody;
+                Object responseBody;
 
-                if (e instanceof InvocationTargetException invocationTargetException) {
-                    e = (Exception) invocationTargetException.getTargetException();
+                while ((e instanceof InvocationTargetException || e instanceof ExecutionException || e instanceof CompletionException)
+                        && e.getCause() != null) {
+                    e = e.getCause();
                 }
 
                 if (e instanceof IllegalArgumentException) {
                     statusCode = 400;
-                    responseBody = objectMapper.writeValueAsString(Map.of(
+                    responseBody = Map.of(
                             "status", statusCode,
                             "timestamp", new Date().toString(),
                             "message", "Invalid request: " + e.getMessage()
-                    ));
-                } else if (e instanceof HttpException || e instanceof ExecutionException) {
-                    HttpException httpException = (HttpException) (e instanceof ExecutionException ? e.getCause() : e);
+                    );
+                } else if (e instanceof UniqueConstraintViolationException violation) {
+                    statusCode = 409;
+                    responseBody = Map.of(
+                            "status", statusCode,
+                            "timestamp", new Date().toString(),
+                            "message", "Duplicate value for " + String.join(", ", violation.getColumns())
+                    );
+                } else if (e instanceof HttpException httpException) {
                     statusCode = httpException.getStatus().getCode();
-                    responseBody = objectMapper.writeValueAsString(httpException.getDetails());
+                    responseBody = httpException.getDetails();
                 } else {
-                    responseBody = objectMapper.writeValueAsString(Map.of(
+                    e.printStackTrace();
+                    responseBody = Map.of(
                             "status", statusCode,
                             "timestamp", new Date().toString(),
                             "message", "An internal server error occurred. Please try again later."
-                    ));
+                    );
                 }
 
-                sendResponse(exchange, statusCode, responseBody);
-
-                long endTime = System.currentTimeMillis();
-                long processingTime = endTime - startTime;
-                System.out.printf("[%s] %s %s %s%d%s in %dms\n",
-                        ANSI_CYAN + LocalDateTime.now().format(dateTimeFormatter) + ANSI_RESET,
-                        method,
-                        path,
-                        ANSI_BOLD + ANSI_RED, statusCode, ANSI_RESET,
-                        processingTime);
+                jsonCodec.write(exchange, statusCode, null, responseBody);
+                logRequest(method, path, statusCode, startTime);
             } catch (IOException ex) {
                 System.err.println("Failed to send error response: " + ex.getMessage());
             }
         }
 
-        private void sendResponse(HttpExchange exchange, int statusCode, String responseBody) throws IOException {
-            exchange.sendResponseHeaders(statusCode, responseBody.getBytes().length);
+        private void logRequest(String method, String path, int statusCode, long startTime) {
+            long endTime = System.currentTimeMillis();
+            long processingTime = endTime - startTime;
+            String statusColor = statusCode < 300  ? ANSI_GREEN : statusCode < 400 ?  ANSI_YELLOW : ANSI_RED;
+            System.out.printf("[%s] %s %s %s%d%s in %dms\n",
+                    ANSI_CYAN + LocalDateTime.now().format(dateTimeFormatter) + ANSI_RESET,
+                    method,
+                    path,
+                    ANSI_BOLD + statusColor, statusCode, ANSI_RESET,
+                    processingTime);
+        }
+
+        private void sendResponse(ServerExchange exchange, int statusCode, String responseBody) throws IOException {
+            byte[] bytes = responseBody.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(statusCode, bytes.length == 0 ? -1 : bytes.length);
             OutputStream os = exchange.getResponseBody();
-            os.write(responseBody.getBytes());
+            if (bytes.length > 0) {
+                os.write(bytes);
+            }
             os.close();
         }
     }
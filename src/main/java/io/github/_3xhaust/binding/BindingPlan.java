@@ -0,0 +1,53 @@
+package io.github._3xhaust.binding;
+
+import io.github._3xhaust.annotations.Query;
+import io.github._3xhaust.annotations.http.Param;
+import io.github._3xhaust.annotations.types.Body;
+import io.github._3xhaust.routing.RouteMatch;
+import io.github._3xhaust.server.ServerExchange;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+
+public class BindingPlan {
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final ParameterBinder[] binders;
+
+    private BindingPlan(ParameterBinder[] binders) {
+        this.binders = binders;
+    }
+
+    public static BindingPlan compile(Method method, String[] paramNames) {
+        Parameter[] parameters = method.getParameters();
+        ParameterBinder[] binders = new ParameterBinder[parameters.length];
+
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter parameter = parameters[i];
+
+            if (parameter.isAnnotationPresent(Param.class)) {
+                binders[i] = new PathParamBinder(parameter.getAnnotation(Param.class).value(), paramNames, parameter.getType());
+            } else if (parameter.isAnnotationPresent(Query.class)) {
+                DtoMapper dtoMapper = DtoMapper.forClass(parameter.getType());
+                binders[i] = (exchange, match) -> dtoMapper.fromQuery(exchange.getQuery());
+            } else if (parameter.isAnnotationPresent(Body.class)) {
+                binders[i] = new BodyBinder(parameter.getType(), parameter.getParameterizedType());
+            } else {
+                binders[i] = ParameterBinder.NONE;
+            }
+        }
+
+        return new BindingPlan(binders);
+    }
+
+    public Object[] bind(ServerExchange exchange, RouteMatch match) throws Exception {
+        if (binders.length == 0) {
+            return NO_ARGUMENTS;
+        }
+        Object[] values = new Object[binders.length];
+        for (int i = 0; i < binders.length; i++) {
+            values[i] = binders[i].bind(exchange, match);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,151 @@
+package io.github._3xhaust.binding;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github._3xhaust.http.ContentType;
+import io.github._3xhaust.routing.RouteMatch;
+import io.github._3xhaust.serialization.JsonCodec;
+import io.github._3xhaust.server.ServerExchange;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+class BodyBinder implements ParameterBinder {
+    private final ObjectReader reader;
+    private final DtoMapper dtoMapper;
+
+    BodyBinder(Class<?> type, Type genericType) {
+        this.dtoMapper = DtoMapper.forClass(type);
+        this.reader = JsonCodec.shared().readerFor(genericType);
+    }
+
+    @Override
+    public Object bind(ServerExchange exchange, RouteMatch match) throws IOException {
+        String contentType = exchange.getRequestHeader("Content-Type");
+        ContentType bodyType = ContentType.fromString(contentType);
+
+        if (bodyType == null) {
+            throw new IllegalArgumentException("Unsupported Content-Type: " + contentType);
+        }
+
+        return switch (bodyType) {
+            case JSON -> reader.readValue(exchange.getRequestBody());
+            case FORM_DATA -> dtoMapper.fromMap(parseFormData(exchange, contentType));
+            case URL_ENCODED -> dtoMapper.fromMap(parseUrlEncodedData(exchange));
+            case RAW, GRAPHQL -> readRawBody(exchange);
+            case BINARY -> readBinaryBody(exchange);
+        };
+    }
+
+    private static Map<String, Object> parseFormData(ServerExchange exchange, String contentType) throws IOException {
+        Map<String, Object> formData = new HashMap<>();
+        String boundary = getBoundary(contentType);
+
+        if (boundary == null) {
+            throw new IllegalArgumentException("Invalid Content-Type: multipart/form-data boundary not found");
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8))) {
+            String line;
+            boolean isFilePart = false;
+            String fieldName = null;
+            ByteArrayOutputStream fileContent = null;
+
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("--" + boundary)) {
+                    isFilePart = false;
+                    if (fileContent != null) {
+                        formData.put(fieldName, fileContent.toByteArray());
+                        fileContent = null;
+                    }
+                } else if (line.startsWith("Content-Disposition: form-data;")) {
+                    fieldName = extractFieldName(line);
+                    String fileName = extractFileName(line);
+                    if (fileName != null) {
+                        isFilePart = true;
+                        fileContent = new ByteArrayOutputStream();
+                        formData.put(fieldName, fileName);
+                    }
+                } else if (line.isEmpty() && isFilePart) continue;
+                else {
+                    if (isFilePart) {
+                        fileContent.write(line.getBytes(StandardCharsets.UTF_8));
+                        fileContent.write("\n".getBytes(StandardCharsets.UTF_8));
+                    } else formData.put(fieldName, line);
+                }
+            }
+
+            if (fileContent != null) {
+                formData.put(fieldName, fileContent.toByteArray());
+            }
+        }
+
+        return formData;
+    }
+
+    private static Map<String, Object> parseUrlEncodedData(ServerExchange exchange) throws IOException {
+        String requestBody = readRawBody(exchange);
+        Map<String, Object> urlEncodedData = new HashMap<>();
+        String[] pairs = requestBody.split("&");
+        for (String pair : pairs) {
+            String[] parts = pair.split("=");
+            if (parts.length == 2) {
+                urlEncodedData.put(parts[0], parts[1]);
+            }
+        }
+        return urlEncodedData;
+    }
+
+    private static String getBoundary(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+
+        String[] parts = contentType.split(";");
+        for (String part : parts) {
+            if (part.trim().startsWith("boundary=")) {
+                return part.trim().substring("boundary=".length());
+            }
+        }
+        return null;
+    }
+
+    private static String extractFieldName(String line) {
+        String[] parts = line.split(";");
+        for (String part : parts) {
+            if (part.trim().startsWith("name=\"")) {
+                return part.trim().substring("name=\"".length(), part.trim().length() - 1);
+            }
+        }
+        return null;
+    }
+
+    private static String extractFileName(String line) {
+        if (line.contains("filename=\"")) {
+            int startIndex = line.indexOf("filename=\"") + "filename=\"".length();
+            int endIndex = line.indexOf("\"", startIndex);
+            return line.substring(startIndex, endIndex);
+        }
+        return null;
+    }
+
+    private static String readRawBody(ServerExchange exchange) throws IOException {
+        InputStream inputStream = exchange.getRequestBody();
+        StringBuilder sb = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                sb.append(line).append("\n");
+            }
+        }
+        return sb.toString();
+    }
+
+    private static byte[] readBinaryBody(ServerExchange exchange) throws IOException {
+        try (InputStream inputStream = exchange.getRequestBody()) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
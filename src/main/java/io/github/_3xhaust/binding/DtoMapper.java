@@ -0,0 +1,144 @@
+package io.github._3xhaust.binding;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+final class DtoMapper {
+    private static final Map<Class<?>, DtoMapper> CACHE = new ConcurrentHashMap<>();
+
+    private final Class<?> type;
+    private final MethodHandle constructor;
+    private final Map<String, FieldBinding> fields = new HashMap<>();
+
+    private DtoMapper(Class<?> type) {
+        this.type = type;
+        this.constructor = findConstructor(type);
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                continue;
+            }
+            try {
+                field.setAccessible(true);
+                MethodHandle setter = lookup.unreflectSetter(field)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                fields.put(field.getName(), new FieldBinding(setter, field.getType() == String.class, TypeConverter.forType(field.getType())));
+            } catch (IllegalAccessException | RuntimeException ignored) {
+            }
+        }
+    }
+
+    static DtoMapper forClass(Class<?> type) {
+        return CACHE.computeIfAbsent(type, DtoMapper::new);
+    }
+
+    Object fromQuery(String query) throws Exception {
+        Object instance = newInstance();
+        if (query == null || query.isEmpty()) {
+            return instance;
+        }
+
+        int start = 0;
+        while (start <= query.length()) {
+            int end = query.indexOf('&', start);
+            if (end < 0) {
+                end = query.length();
+            }
+            int equals = query.indexOf('=', start);
+            String name;
+            String value;
+            if (equals < 0 || equals > end) {
+                name = query.substring(start, end);
+                value = "";
+            } else {
+                name = query.substring(start, equals);
+                value = query.substring(equals + 1, end);
+            }
+            FieldBinding field = fields.get(name);
+            if (field != null) {
+                field.set(instance, field.converter.apply(value));
+            }
+            start = end + 1;
+        }
+        return instance;
+    }
+
+    Object fromMap(Map<String, Object> data) {
+        try {
+            Object instance = newInstance();
+            for (Map.Entry<String, Object> entry : data.entrySet()) {
+                FieldBinding field = fields.get(entry.getKey());
+                Object value = entry.getValue();
+                if (field == null || value == null) {
+                    continue;
+                }
+                if (field.isString && value instanceof byte[]) {
+                    field.set(instance, new String((byte[]) value, StandardCharsets.UTF_8));
+                } else {
+                    field.set(instance, field.converter.apply(value.toString()));
+                }
+            }
+            return instance;
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Error mapping data to DTO: " + e.getMessage(), e);
+        }
+    }
+
+    private Object newInstance() throws Exception {
+        if (constructor == null) {
+            throw new NoSuchMethodException(type.getName() + ".<init>()");
+        }
+        try {
+            return constructor.invoke();
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+    private static MethodHandle findConstructor(Class<?> type) {
+        try {
+            Constructor<?> declaredConstructor = type.getDeclaredConstructor();
+            declaredConstructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(declaredConstructor)
+                    .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final class FieldBinding {
+        private final MethodHandle setter;
+        private final boolean isString;
+        private final Function<String, Object> converter;
+
+        private FieldBinding(MethodHandle setter, boolean isString, Function<String, Object> converter) {
+            this.setter = setter;
+            this.isString = isString;
+            this.converter = converter;
+        }
+
+        private void set(Object instance, Object value) throws Exception {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.github._3xhaust.binding;
+
+import io.github._3xhaust.routing.RouteMatch;
+import io.github._3xhaust.server.ServerExchange;
+
+@FunctionalInterface
+public interface ParameterBinder {
+    ParameterBinder NONE = (exchange, match) -> null;
+
+    Object bind(ServerExchange exchange, RouteMatch match) throws Exception;
+}
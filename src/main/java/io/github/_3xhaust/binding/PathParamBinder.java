@@ -0,0 +1,42 @@
+package io.github._3xhaust.binding;
+
+import io.github._3xhaust.routing.RouteMatch;
+import io.github._3xhaust.server.ServerExchange;
+
+import java.util.function.Function;
+
+class PathParamBinder implements ParameterBinder {
+    private final int captureIndex;
+    private final String legacyMarker;
+    private final Function<String, Object> converter;
+
+    PathParamBinder(String paramName, String[] paramNames, Class<?> type) {
+        int index = -1;
+        for (int i = 0; i < paramNames.length; i++) {
+            if (paramNames[i].equals(paramName)) {
+                index = i;
+                break;
+            }
+        }
+        this.captureIndex = index;
+        this.legacyMarker = "/" + paramName + "/";
+        this.converter = TypeConverter.forType(type);
+    }
+
+    @Override
+    public Object bind(ServerExchange exchange, RouteMatch match) {
+        String value = captureIndex >= 0 ? match.getValues()[captureIndex] : findLegacyValue(exchange.getPath());
+        return value != null ? converter.apply(value) : null;
+    }
+
+    private String findLegacyValue(String path) {
+        int index = path.indexOf(legacyMarker);
+        if (index < 0) {
+            return null;
+        }
+        int start = index + legacyMarker.length();
+        int end = path.indexOf('/', start);
+        String value = end < 0 ? path.substring(start) : path.substring(start, end);
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,28 @@
+package io.github._3xhaust.binding;
+
+import java.util.function.Function;
+
+final class TypeConverter {
+    private TypeConverter() {
+    }
+
+    static Function<String, Object> forType(Class<?> targetType) {
+        if (targetType == String.class) {
+            return value -> value;
+        } else if (targetType == int.class || targetType == Integer.class) {
+            return Integer::parseInt;
+        } else if (targetType == long.class || targetType == Long.class) {
+            return Long::parseLong;
+        } else if (targetType == boolean.class || targetType == Boolean.class) {
+            return Boolean::parseBoolean;
+        } else if (targetType == float.class || targetType == Float.class) {
+            return Float::parseFloat;
+        } else if (targetType == double.class || targetType == Double.class) {
+            return Double::parseDouble;
+        } else {
+            return value -> {
+                throw new IllegalArgumentException("Unsupported field type: " + targetType.getName());
+            };
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.github._3xhaust.exmaple.orm;
 
 import io.github._3xhaust.annotations.Module;
 import io.github._3xhaust.exmaple.orm.post.PostModule;
+import io.github._3xhaust.exmaple.orm.post.entities.Post;
 import io.github._3xhaust.orm.AvnoiOrmModule;
 
 import static io.github._3xhaust.orm.DataSourceOptions.sqlite;
@@ -15,7 +16,7 @@ import static io.github._3xhaust.orm.DataSourceOptions.sqlite;
 public class AppModule {
     static {
         AvnoiOrmModule.forRoot(
-                sqlite("blog.db", true)
+                sqlite("blog.db", true).entities(Post.class)
         );
     }
 }
@@ -2,11 +2,13 @@ package io.github._3xhaust.exmaple.orm.post;
 
 import io.github._3xhaust.annotations.Controller;
 import io.github._3xhaust.annotations.Inject;
+import io.github._3xhaust.annotations.Query;
 import io.github._3xhaust.annotations.http.Post;
 import io.github._3xhaust.annotations.types.Body;
 import io.github._3xhaust.annotations.http.Get;
 import io.github._3xhaust.annotations.http.Param;
 import io.github._3xhaust.exmaple.orm.post.dto.CreatePostDto;
+import io.github._3xhaust.orm.pagination.PageRequest;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -28,18 +30,23 @@ public class PostController {
         return result;
     }
 
-    @Get("findById")
+    @Get("findById/:id")
     public Object findById(@Param("id") Long id) {
         return postService.findById(id);
     }
 
     @Get("findAll")
-    public Object findAll() {
-        return postService.findAll();
+    public Object findAll(@Query PageRequest pageRequest) {
+        return postService.findAll(pageRequest);
+    }
+
+    @Get("export")
+    public Object export() {
+        return postService.export();
     }
 
 
-    @Get("findByTitle")
+    @Get("findByTitle/:title")
     public Object findByTitle(@Param("title") String title) {
         return postService.findByTitle(title);
     }
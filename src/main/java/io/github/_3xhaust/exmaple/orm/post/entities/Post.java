@@ -1,6 +1,7 @@
 package io.github._3xhaust.exmaple.orm.post.entities;
 
 import io.github._3xhaust.annotations.Entity;
+import io.github._3xhaust.orm.annotations.Cacheable;
 import io.github._3xhaust.orm.annotations.Column;
 import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
 import lombok.Getter;
@@ -9,6 +10,7 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+@Cacheable(maxSize = 1000, ttl = 300_000)
 public class Post {
     @PrimaryGeneratedColumn(strategy = "increment")
     private Long post_id;
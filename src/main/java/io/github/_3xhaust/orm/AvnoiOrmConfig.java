@@ -16,7 +16,7 @@ public class AvnoiOrmConfig extends DataSourceOptions{
     private final DataSourceOptions options;
 
     public AvnoiOrmConfig(DataSourceOptions options) {
-        super(options.getType(), options.getSqliteOptions(), options.isLoggingEnabled());
+        super(options);
         this.options = options;
     }
 }
\ No newline at end of file
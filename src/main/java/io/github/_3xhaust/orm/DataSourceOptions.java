@@ -2,8 +2,18 @@ package io.github._3xhaust.orm;
 
 import io.github._3xhaust.orm.connections.MysqlConnectionOptions;
 import io.github._3xhaust.orm.connections.SqliteConnectionOptions;
+import io.github._3xhaust.orm.pool.PoolOptions;
+import io.github._3xhaust.server.ExecutorOptions;
 import lombok.Getter;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 public class DataSourceOptions {
     public enum DatabaseType {
         SQLITE, MYSQL
@@ -15,11 +25,27 @@ public class DataSourceOptions {
 
     private SqliteConnectionOptions sqliteOptions;
     private MysqlConnectionOptions mysqlOptions;
+    @Getter
+    private PoolOptions poolOptions = new PoolOptions();
+    private Set<Class<?>> entities = new LinkedHashSet<>();
+    @Getter
+    private boolean synchronize = true;
+    @Getter
+    private boolean parallelSynchronize = false;
+    @Getter
+    private int batchSize = 500;
+    @Getter
+    private int fetchSize = 500;
+    private Map<String, Object> executorOptions = Map.of();
 
     public static DataSourceOptions sqlite(String database, boolean logging) {
         return new DataSourceOptions(DatabaseType.SQLITE, new SqliteConnectionOptions(database), logging);
     }
 
+    public static DataSourceOptions sqlite(String database, boolean logging, Map<String, Object> options) {
+        return new DataSourceOptions(DatabaseType.SQLITE, new SqliteConnectionOptions(database, options), logging);
+    }
+
     public static DataSourceOptions mysql(String database, boolean logging, String username, String password) {
         return new DataSourceOptions(DatabaseType.MYSQL, new MysqlConnectionOptions(database, username, password), logging);
     }
@@ -36,6 +62,99 @@ public class DataSourceOptions {
         this.logging = logging;
     }
 
+    protected DataSourceOptions(DataSourceOptions options) {
+        this.type = options.type;
+        this.logging = options.logging;
+        this.sqliteOptions = options.sqliteOptions;
+        this.mysqlOptions = options.mysqlOptions;
+        this.poolOptions = options.poolOptions;
+        this.entities = options.entities;
+        this.synchronize = options.synchronize;
+        this.parallelSynchronize = options.parallelSynchronize;
+        this.batchSize = options.batchSize;
+        this.fetchSize = options.fetchSize;
+        this.executorOptions = options.executorOptions;
+    }
+
+    public DataSourceOptions pool(Map<String, Object> options) {
+        this.poolOptions = new PoolOptions(options);
+        return this;
+    }
+
+    public DataSourceOptions entities(Class<?>... entityClasses) {
+        this.entities.addAll(Arrays.asList(entityClasses));
+        return this;
+    }
+
+    public DataSourceOptions synchronize(boolean enabled) {
+        this.synchronize = enabled;
+        return this;
+    }
+
+    public DataSourceOptions synchronize(boolean enabled, boolean parallel) {
+        this.synchronize = enabled;
+        this.parallelSynchronize = parallel;
+        return this;
+    }
+
+    public DataSourceOptions batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Invalid batchSize value: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public DataSourceOptions fetchSize(int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("Invalid fetchSize value: " + fetchSize);
+        }
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    public DataSourceOptions executor(Map<String, Object> options) {
+        this.executorOptions = Map.copyOf(options);
+        return this;
+    }
+
+    public ExecutorOptions getExecutorOptions() {
+        Map<String, Object> options = new HashMap<>();
+        options.put("threads", poolOptions.getMaxSize());
+        options.put("queueCapacity", 10_000);
+        options.put("threadNamePrefix", "avnoi-db");
+        options.putAll(executorOptions);
+        return new ExecutorOptions(options);
+    }
+
+    public Set<Class<?>> getEntities() {
+        return Collections.unmodifiableSet(entities);
+    }
+
+    public String getJdbcUrl() {
+        return switch (type) {
+            case SQLITE -> "jdbc:sqlite:" + sqliteOptions.database;
+            case MYSQL -> "jdbc:mysql://" + mysqlOptions.host + ":" + mysqlOptions.port + "/" + mysqlOptions.database;
+        };
+    }
+
+    public String getUsername() {
+        return type == DatabaseType.MYSQL ? mysqlOptions.username : null;
+    }
+
+    public String getPassword() {
+        return type == DatabaseType.MYSQL ? mysqlOptions.password : null;
+    }
+
+    public List<String> getConnectionInitStatements() {
+        return type == DatabaseType.SQLITE ? sqliteOptions.getPragmas() : List.of();
+    }
+
+    // Each in-memory connection is its own database, so a separate writer connection would never see the readers' data.
+    public boolean isSingleWriter() {
+        return type == DatabaseType.SQLITE && sqliteOptions.isSingleWriter() && !sqliteOptions.isInMemory();
+    }
+
     public boolean isLoggingEnabled() {
         return logging;
     }
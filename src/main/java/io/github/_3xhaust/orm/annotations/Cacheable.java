@@ -0,0 +1,13 @@
+package io.github._3xhaust.orm.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cacheable {
+    int maxSize() default 10_000;
+    long ttl() default 60_000;
+}
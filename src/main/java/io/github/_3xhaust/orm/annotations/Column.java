@@ -12,6 +12,7 @@ public @interface Column {
     String type() default "";
     int length() default 255;
     boolean unique() default false;
+    boolean index() default false;
     boolean nullable() default true;
     String defaultValue() default "";
     String onUpdate() default "";
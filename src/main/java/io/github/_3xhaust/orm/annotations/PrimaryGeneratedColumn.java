@@ -8,6 +8,9 @@ import java.lang.annotation.Target;
 @Target(ElementType.FIELD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface PrimaryGeneratedColumn {
+    // "AUTO"/"identity"/"increment", "sequence"/"hilo", or the name of an IdGenerator class.
     String strategy() default "AUTO";
+    int allocationSize() default 50;
+    String sequenceName() default "";
     int length() default 255;
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package io.github._3xhaust.orm.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+    private final int maxSize;
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("cache[size=%d/%d, hits=%d, misses=%d, evictions=%d, hitRate=%.2f]",
+                size, maxSize, hits, misses, evictions, getHitRate());
+    }
+}
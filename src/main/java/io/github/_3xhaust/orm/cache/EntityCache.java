@@ -0,0 +1,136 @@
+package io.github._3xhaust.orm.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+public class EntityCache<T> {
+    private static final int MAX_SEGMENTS = 16;
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final UnaryOperator<T> copier;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public EntityCache(int maxSize, long ttlMillis, UnaryOperator<T> copier) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Invalid cache maxSize value: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(ttlMillis) : NO_EXPIRY;
+        this.copier = copier;
+
+        int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maxSize));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int segmentCapacity = maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0);
+            segments[i] = new Segment(segmentCapacity, evictions);
+        }
+        this.segmentMask = segmentCount - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(Object id) {
+        Segment segment = segmentFor(id);
+        T value;
+        synchronized (segment) {
+            CachedEntry entry = segment.get(id);
+            if (entry != null && entry.isExpired()) {
+                segment.remove(id);
+                entry = null;
+            }
+            value = entry == null ? null : (T) entry.value;
+        }
+
+        if (value == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return copier.apply(value);
+    }
+
+    public void put(Object id, T entity) {
+        CachedEntry entry = new CachedEntry(copier.apply(entity), expiry());
+        Segment segment = segmentFor(id);
+        synchronized (segment) {
+            segment.put(id, entry);
+        }
+    }
+
+    public void putIfAbsent(Object id, T entity) {
+        CachedEntry entry = new CachedEntry(copier.apply(entity), expiry());
+        Segment segment = segmentFor(id);
+        synchronized (segment) {
+            segment.putIfAbsent(id, entry);
+        }
+    }
+
+    public void invalidate(Object id) {
+        Segment segment = segmentFor(id);
+        synchronized (segment) {
+            segment.remove(id);
+        }
+    }
+
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public CacheStats getStats() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size, maxSize);
+    }
+
+    private long expiry() {
+        return ttlNanos == NO_EXPIRY ? NO_EXPIRY : System.nanoTime() + ttlNanos;
+    }
+
+    private Segment segmentFor(Object id) {
+        int hash = id.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    private record CachedEntry(Object value, long expiresAt) {
+        private boolean isExpired() {
+            return expiresAt != NO_EXPIRY && expiresAt - System.nanoTime() < 0;
+        }
+    }
+
+    private static final class Segment extends LinkedHashMap<Object, CachedEntry> {
+        private final int capacity;
+        private final LongAdder evictions;
+
+        private Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, CachedEntry> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
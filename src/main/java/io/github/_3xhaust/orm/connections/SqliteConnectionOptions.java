@@ -1,9 +1,121 @@
 package io.github._3xhaust.orm.connections;
 
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
 public class SqliteConnectionOptions {
+    private static final Set<String> JOURNAL_MODES = Set.of("DELETE", "TRUNCATE", "PERSIST", "MEMORY", "WAL", "OFF");
+    private static final Set<String> SYNCHRONOUS_LEVELS = Set.of("OFF", "NORMAL", "FULL", "EXTRA");
+
     public String database;
 
+    private String journalMode = "WAL";
+    private String synchronous = "NORMAL";
+    private long mmapSize = 268_435_456;
+    private int cacheSize = -64_000;
+    private int busyTimeout = 5_000;
+    // Routes every write and every transaction callback, @Transactional routes included, through one writer thread.
+    private boolean singleWriter = false;
+    private int writeBatchSize = 256;
+    private int writeQueueCapacity = 10_000;
+
     public SqliteConnectionOptions(String database) {
         this.database = database;
     }
-}
\ No newline at end of file
+
+    public SqliteConnectionOptions(String database, Map<String, Object> options) {
+        this.database = database;
+        if (options.containsKey("journalMode")) this.setJournalMode(options.get("journalMode"));
+        if (options.containsKey("synchronous")) this.setSynchronous(options.get("synchronous"));
+        if (options.containsKey("mmapSize")) this.setMmapSize(options.get("mmapSize"));
+        if (options.containsKey("cacheSize")) this.setCacheSize(options.get("cacheSize"));
+        if (options.containsKey("busyTimeout")) this.setBusyTimeout(options.get("busyTimeout"));
+        if (options.containsKey("singleWriter")) this.setSingleWriter(options.get("singleWriter"));
+        if (options.containsKey("writeBatchSize")) this.setWriteBatchSize(options.get("writeBatchSize"));
+        if (options.containsKey("writeQueueCapacity")) this.setWriteQueueCapacity(options.get("writeQueueCapacity"));
+    }
+
+    public void setJournalMode(Object journalMode) {
+        if (journalMode instanceof String && JOURNAL_MODES.contains(((String) journalMode).trim().toUpperCase())) {
+            this.journalMode = ((String) journalMode).trim().toUpperCase();
+        } else {
+            throw new IllegalArgumentException("Invalid journalMode value: " + journalMode + ". Expected one of " + JOURNAL_MODES);
+        }
+    }
+
+    public void setSynchronous(Object synchronous) {
+        if (synchronous instanceof String && SYNCHRONOUS_LEVELS.contains(((String) synchronous).trim().toUpperCase())) {
+            this.synchronous = ((String) synchronous).trim().toUpperCase();
+        } else {
+            throw new IllegalArgumentException("Invalid synchronous value: " + synchronous + ". Expected one of " + SYNCHRONOUS_LEVELS);
+        }
+    }
+
+    public void setMmapSize(Object mmapSize) {
+        if (mmapSize instanceof Number && ((Number) mmapSize).longValue() >= 0) {
+            this.mmapSize = ((Number) mmapSize).longValue();
+        } else {
+            throw new IllegalArgumentException("Invalid mmapSize value: " + mmapSize);
+        }
+    }
+
+    public void setCacheSize(Object cacheSize) {
+        if (cacheSize instanceof Integer) {
+            this.cacheSize = (Integer) cacheSize;
+        } else {
+            throw new IllegalArgumentException("Invalid cacheSize value: " + cacheSize);
+        }
+    }
+
+    public void setBusyTimeout(Object busyTimeout) {
+        if (busyTimeout instanceof Integer && (Integer) busyTimeout >= 0) {
+            this.busyTimeout = (Integer) busyTimeout;
+        } else {
+            throw new IllegalArgumentException("Invalid busyTimeout value: " + busyTimeout);
+        }
+    }
+
+    public void setSingleWriter(Object singleWriter) {
+        if (singleWriter instanceof Boolean) {
+            this.singleWriter = (Boolean) singleWriter;
+        } else {
+            throw new IllegalArgumentException("Invalid singleWriter value: " + singleWriter);
+        }
+    }
+
+    public void setWriteBatchSize(Object writeBatchSize) {
+        if (writeBatchSize instanceof Integer && (Integer) writeBatchSize > 0) {
+            this.writeBatchSize = (Integer) writeBatchSize;
+        } else {
+            throw new IllegalArgumentException("Invalid writeBatchSize value: " + writeBatchSize);
+        }
+    }
+
+    public void setWriteQueueCapacity(Object writeQueueCapacity) {
+        if (writeQueueCapacity instanceof Integer && (Integer) writeQueueCapacity > 0) {
+            this.writeQueueCapacity = (Integer) writeQueueCapacity;
+        } else {
+            throw new IllegalArgumentException("Invalid writeQueueCapacity value: " + writeQueueCapacity);
+        }
+    }
+
+    public List<String> getPragmas() {
+        List<String> pragmas = new ArrayList<>();
+        // busy_timeout goes first so switching the journal mode waits for other connections instead of failing.
+        pragmas.add("PRAGMA busy_timeout = " + busyTimeout);
+        pragmas.add("PRAGMA journal_mode = " + journalMode);
+        pragmas.add("PRAGMA synchronous = " + synchronous);
+        pragmas.add("PRAGMA cache_size = " + cacheSize);
+        pragmas.add("PRAGMA mmap_size = " + mmapSize);
+        return pragmas;
+    }
+
+    public boolean isInMemory() {
+        return database.equals(":memory:") || database.startsWith("file::memory:");
+    }
+}
@@ -0,0 +1,7 @@
+package io.github._3xhaust.orm.exceptions;
+
+public class UnexpectedRollbackException extends RuntimeException {
+    public UnexpectedRollbackException() {
+        super("Transaction was rolled back because it was marked rollback-only");
+    }
+}
@@ -0,0 +1,73 @@
+package io.github._3xhaust.orm.exceptions;
+
+import io.github._3xhaust.orm.metadata.ColumnMetadata;
+import io.github._3xhaust.orm.metadata.EntityMetadata;
+import io.github._3xhaust.orm.metadata.IndexMetadata;
+import lombok.Getter;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class UniqueConstraintViolationException extends RuntimeException {
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+
+    private final Class<?> entityClass;
+    private final List<String> columns;
+
+    public UniqueConstraintViolationException(Class<?> entityClass, List<String> columns, SQLException cause) {
+        super("Unique constraint violation on " + entityClass.getSimpleName() + "." + String.join(", ", columns), cause);
+        this.entityClass = entityClass;
+        this.columns = List.copyOf(columns);
+    }
+
+    public static UniqueConstraintViolationException from(SQLException e, EntityMetadata<?> metadata) {
+        String message = e.getMessage() == null ? "" : e.getMessage();
+
+        int sqliteMarker = message.indexOf("UNIQUE constraint failed: ");
+        if (sqliteMarker >= 0) {
+            int start = sqliteMarker + "UNIQUE constraint failed: ".length();
+            int end = message.indexOf(')', start);
+            List<String> columns = new ArrayList<>();
+            for (String qualified : message.substring(start, end < 0 ? message.length() : end).split(",")) {
+                columns.add(propertyName(metadata, unqualify(qualified.trim())));
+            }
+            return new UniqueConstraintViolationException(metadata.getEntityClass(), columns, e);
+        }
+
+        if (e.getErrorCode() == MYSQL_DUPLICATE_ENTRY || message.startsWith("Duplicate entry")) {
+            int keyMarker = message.lastIndexOf("for key '");
+            if (keyMarker < 0) {
+                return new UniqueConstraintViolationException(metadata.getEntityClass(), List.of("unknown"), e);
+            }
+            int start = keyMarker + "for key '".length();
+            int end = message.indexOf('\'', start);
+            String key = unqualify(message.substring(start, end < 0 ? message.length() : end));
+            return new UniqueConstraintViolationException(metadata.getEntityClass(), keyColumns(metadata, key), e);
+        }
+        return null;
+    }
+
+    private static List<String> keyColumns(EntityMetadata<?> metadata, String key) {
+        if (key.equals("PRIMARY") && metadata.getPrimaryKey() != null) {
+            return List.of(metadata.getPrimaryKey().getPropertyName());
+        }
+        for (IndexMetadata index : metadata.getIndexes()) {
+            if (index.getName().equalsIgnoreCase(key)) {
+                return index.getColumnNames().stream().map(column -> propertyName(metadata, column)).toList();
+            }
+        }
+        return List.of(propertyName(metadata, key));
+    }
+
+    private static String unqualify(String name) {
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? name : name.substring(dot + 1);
+    }
+
+    private static String propertyName(EntityMetadata<?> metadata, String columnName) {
+        ColumnMetadata column = metadata.getColumnsByName().get(columnName);
+        return column != null ? column.getPropertyName() : columnName;
+    }
+}
@@ -0,0 +1,82 @@
+package io.github._3xhaust.orm.executor;
+
+import io.github._3xhaust.server.ExecutorOptions;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class DatabaseExecutor implements AutoCloseable {
+    private final ExecutorService executor;
+    private final String mode;
+    private final int queueCapacity;
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+    private final AtomicInteger activeTasks = new AtomicInteger();
+    private final LongAdder completedTasks = new LongAdder();
+    private final LongAdder rejectedTasks = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+
+    public DatabaseExecutor(ExecutorOptions options) {
+        this.queueCapacity = options.getQueueCapacity();
+        this.executor = options.createExecutor(true, new LinkedBlockingQueue<>());
+        this.mode = executor instanceof ThreadPoolExecutor ? options.getThreads() + " platform threads" : "virtual threads";
+    }
+
+    public <R> CompletableFuture<R> submit(Supplier<R> task) {
+        if (queuedTasks.incrementAndGet() > queueCapacity) {
+            queuedTasks.decrementAndGet();
+            rejectedTasks.increment();
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Database executor queue is full (" + queueCapacity + " tasks)"));
+        }
+
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long waited = System.nanoTime() - submittedAt;
+                queuedTasks.decrementAndGet();
+                activeTasks.incrementAndGet();
+                totalQueueWaitNanos.add(waited);
+                maxQueueWaitNanos.accumulateAndGet(waited, Math::max);
+                try {
+                    return task.get();
+                } finally {
+                    activeTasks.decrementAndGet();
+                    completedTasks.increment();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            queuedTasks.decrementAndGet();
+            rejectedTasks.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public CompletableFuture<Void> run(Runnable task) {
+        return submit(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public DatabaseExecutorMetrics getMetrics() {
+        long completed = completedTasks.sum();
+        return new DatabaseExecutorMetrics(
+                mode,
+                activeTasks.get(),
+                queuedTasks.get(),
+                queueCapacity,
+                completed,
+                rejectedTasks.sum(),
+                completed == 0 ? 0 : totalQueueWaitNanos.sum() / 1_000_000.0 / completed,
+                maxQueueWaitNanos.get() / 1_000_000.0
+        );
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
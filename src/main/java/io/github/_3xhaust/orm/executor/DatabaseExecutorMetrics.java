@@ -0,0 +1,23 @@
+package io.github._3xhaust.orm.executor;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class DatabaseExecutorMetrics {
+    private final String mode;
+    private final int activeTasks;
+    private final int queuedTasks;
+    private final int queueCapacity;
+    private final long completedTasks;
+    private final long rejectedTasks;
+    private final double averageQueueWaitMillis;
+    private final double maxQueueWaitMillis;
+
+    @Override
+    public String toString() {
+        return String.format("db-executor[%s, active=%d, queued=%d/%d, completed=%d, rejected=%d, avgQueueWait=%.2fms, maxQueueWait=%.2fms]",
+                mode, activeTasks, queuedTasks, queueCapacity, completedTasks, rejectedTasks, averageQueueWaitMillis, maxQueueWaitMillis);
+    }
+}
@@ -0,0 +1,55 @@
+package io.github._3xhaust.orm.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BlockIdGenerator implements IdGenerator {
+    @FunctionalInterface
+    public interface BlockReserver {
+        long reserve(int size);
+    }
+
+    private static final Block EMPTY = new Block(0, 0);
+
+    private final int allocationSize;
+    private final BlockReserver reserver;
+    private volatile Block current = EMPTY;
+
+    public BlockIdGenerator(int allocationSize, BlockReserver reserver) {
+        if (allocationSize <= 0) {
+            throw new IllegalArgumentException("Invalid allocationSize value: " + allocationSize);
+        }
+        this.allocationSize = allocationSize;
+        this.reserver = reserver;
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            Block block = current;
+            long id = block.next.getAndIncrement();
+            if (id < block.end) {
+                return id;
+            }
+            synchronized (this) {
+                if (current == block) {
+                    long start = reserver.reserve(allocationSize);
+                    current = new Block(start, start + allocationSize);
+                }
+            }
+        }
+    }
+
+    public synchronized void discardBlock() {
+        current = EMPTY;
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
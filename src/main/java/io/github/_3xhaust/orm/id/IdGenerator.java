@@ -0,0 +1,6 @@
+package io.github._3xhaust.orm.id;
+
+@FunctionalInterface
+public interface IdGenerator {
+    long nextId();
+}
@@ -0,0 +1,13 @@
+package io.github._3xhaust.orm.id;
+
+public enum IdStrategy {
+    IDENTITY, SEQUENCE, CUSTOM;
+
+    public static IdStrategy of(String strategy) {
+        return switch (strategy.trim().toLowerCase()) {
+            case "auto", "identity", "increment" -> IDENTITY;
+            case "sequence", "hilo" -> SEQUENCE;
+            default -> CUSTOM;
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package io.github._3xhaust.orm.id;
+
+import io.github._3xhaust.orm.DataSourceOptions;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class SequenceTable {
+    public static final String TABLE_NAME = "avnoi_sequences";
+
+    private final DataSourceOptions.DatabaseType databaseType;
+
+    public SequenceTable(DataSourceOptions.DatabaseType databaseType) {
+        this.databaseType = databaseType;
+    }
+
+    public void ensureSequence(Connection connection, String sequenceName, String tableName, String idColumn) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + TABLE_NAME + " (name VARCHAR(255) PRIMARY KEY, next_value BIGINT NOT NULL)");
+        }
+        String insert = databaseType == DataSourceOptions.DatabaseType.SQLITE ? "INSERT OR IGNORE INTO " : "INSERT IGNORE INTO ";
+        try (PreparedStatement statement = connection.prepareStatement(insert + TABLE_NAME + " (name, next_value) "
+                + "SELECT ?, COALESCE(MAX(" + idColumn + "), 0) + 1 FROM " + tableName)) {
+            statement.setString(1, sequenceName);
+            statement.executeUpdate();
+        }
+    }
+
+    public long reserve(Connection connection, String sequenceName, int size) throws SQLException {
+        long nextValue;
+        if (databaseType == DataSourceOptions.DatabaseType.SQLITE) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE " + TABLE_NAME + " SET next_value = next_value + ? WHERE name = ? RETURNING next_value")) {
+                statement.setInt(1, size);
+                statement.setString(2, sequenceName);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        throw new SQLException("Sequence '" + sequenceName + "' does not exist");
+                    }
+                    nextValue = resultSet.getLong(1);
+                }
+            }
+        } else {
+            // LAST_INSERT_ID(expr) stores the new value per connection, so reading it back needs no lock or transaction.
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE " + TABLE_NAME + " SET next_value = LAST_INSERT_ID(next_value + ?) WHERE name = ?")) {
+                statement.setInt(1, size);
+                statement.setString(2, sequenceName);
+                if (statement.executeUpdate() == 0) {
+                    throw new SQLException("Sequence '" + sequenceName + "' does not exist");
+                }
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT LAST_INSERT_ID()")) {
+                resultSet.next();
+                nextValue = resultSet.getLong(1);
+            }
+        }
+        return nextValue - size;
+    }
+}
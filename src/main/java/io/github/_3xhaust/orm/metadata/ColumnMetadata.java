@@ -0,0 +1,141 @@
+package io.github._3xhaust.orm.metadata;
+
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+@Getter
+public class ColumnMetadata {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final String propertyName;
+    private final String columnName;
+    private final Class<?> javaType;
+    private final String sqlType;
+    private final boolean primaryKey;
+    private final boolean unique;
+    private final boolean nullable;
+    private final int length;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final RowMapper.ColumnReader reader;
+
+    ColumnMetadata(Field field) {
+        this.field = field;
+        this.propertyName = field.getName();
+        this.javaType = field.getType();
+
+        Column column = field.getAnnotation(Column.class);
+        PrimaryGeneratedColumn primaryGeneratedColumn = field.getAnnotation(PrimaryGeneratedColumn.class);
+
+        this.primaryKey = primaryGeneratedColumn != null;
+        this.columnName = column != null && !column.name().isEmpty() ? column.name() : field.getName();
+        this.sqlType = column != null && !column.type().isEmpty() ? column.type() : resolveSqlType(field.getType());
+        this.unique = column != null && column.unique();
+        this.nullable = column == null || column.nullable();
+        this.length = primaryGeneratedColumn != null ? primaryGeneratedColumn.length() : column != null ? column.length() : 255;
+
+        try {
+            field.setAccessible(true);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            this.setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            this.reader = createReader(lookup.unreflectSetter(field));
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Failed to access field: " + field.getName(), e);
+        }
+    }
+
+    public Object get(Object entity) {
+        try {
+            return (Object) getter.invokeExact(entity);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to access field: " + propertyName, e);
+        }
+    }
+
+    public void set(Object entity, Object value) {
+        try {
+            setter.invokeExact(entity, value);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to set field: " + propertyName, e);
+        }
+    }
+
+    private RowMapper.ColumnReader createReader(MethodHandle rawSetter) {
+        if (javaType == long.class) {
+            MethodHandle set = rawSetter.asType(MethodType.methodType(void.class, Object.class, long.class));
+            return (resultSet, index, entity) -> {
+                long value = resultSet.getLong(index);
+                if (value != 0 || !resultSet.wasNull()) set.invokeExact(entity, value);
+            };
+        } else if (javaType == int.class) {
+            MethodHandle set = rawSetter.asType(MethodType.methodType(void.class, Object.class, int.class));
+            return (resultSet, index, entity) -> {
+                int value = resultSet.getInt(index);
+                if (value != 0 || !resultSet.wasNull()) set.invokeExact(entity, value);
+            };
+        } else if (javaType == double.class) {
+            MethodHandle set = rawSetter.asType(MethodType.methodType(void.class, Object.class, double.class));
+            return (resultSet, index, entity) -> {
+                double value = resultSet.getDouble(index);
+                if (value != 0 || !resultSet.wasNull()) set.invokeExact(entity, value);
+            };
+        } else if (javaType == float.class) {
+            MethodHandle set = rawSetter.asType(MethodType.methodType(void.class, Object.class, float.class));
+            return (resultSet, index, entity) -> {
+                float value = resultSet.getFloat(index);
+                if (value != 0 || !resultSet.wasNull()) set.invokeExact(entity, value);
+            };
+        }
+
+        MethodHandle set = setter;
+        if (javaType == Long.class) {
+            return (resultSet, index, entity) -> {
+                long value = resultSet.getLong(index);
+                set.invokeExact(entity, value == 0 && resultSet.wasNull() ? null : (Object) value);
+            };
+        } else if (javaType == Integer.class) {
+            return (resultSet, index, entity) -> {
+                int value = resultSet.getInt(index);
+                set.invokeExact(entity, value == 0 && resultSet.wasNull() ? null : (Object) value);
+            };
+        } else if (javaType == Double.class) {
+            return (resultSet, index, entity) -> {
+                double value = resultSet.getDouble(index);
+                set.invokeExact(entity, value == 0 && resultSet.wasNull() ? null : (Object) value);
+            };
+        } else if (javaType == Float.class) {
+            return (resultSet, index, entity) -> {
+                float value = resultSet.getFloat(index);
+                set.invokeExact(entity, value == 0 && resultSet.wasNull() ? null : (Object) value);
+            };
+        } else if (javaType == String.class) {
+            return (resultSet, index, entity) -> {
+                set.invokeExact(entity, (Object) resultSet.getString(index));
+            };
+        }
+        return (resultSet, index, entity) -> {
+            set.invokeExact(entity, resultSet.getObject(index));
+        };
+    }
+
+    private static String resolveSqlType(Class<?> type) {
+        if (type == String.class) {
+            return "TEXT";
+        } else if (type == int.class || type == Integer.class || type == long.class || type == Long.class) {
+            return "INTEGER";
+        } else if (type == float.class || type == Float.class || type == double.class || type == Double.class) {
+            return "REAL";
+        } else {
+            throw new IllegalArgumentException("Unsupported field type: " + type.getName());
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package io.github._3xhaust.orm.metadata;
+
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.Index;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import io.github._3xhaust.orm.id.IdGenerator;
+import io.github._3xhaust.orm.id.IdStrategy;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Getter
+public class EntityMetadata<T> {
+    private static final Map<Class<?>, EntityMetadata<?>> CACHE = new ConcurrentHashMap<>();
+
+    private final Class<T> entityClass;
+    private final String tableName;
+    private final List<ColumnMetadata> columns;
+    private final List<ColumnMetadata> insertColumns;
+    private final List<ColumnMetadata> updateColumns;
+    private final List<ColumnMetadata> uniqueColumns;
+    private final ColumnMetadata primaryKey;
+    private final IdStrategy idStrategy;
+    private final Class<? extends IdGenerator> idGeneratorClass;
+    private final int allocationSize;
+    private final String sequenceName;
+    private final Map<String, ColumnMetadata> columnsByProperty;
+    private final Map<String, ColumnMetadata> columnsByName;
+    private final MethodHandle constructor;
+
+    private final String selectSql;
+    private final String selectByIdSql;
+    private final String insertSql;
+    private final List<ColumnMetadata> insertWithIdColumns;
+    private final String insertWithIdSql;
+    private final String updateSql;
+    private final String deleteSql;
+    private final String createTableSql;
+    private final List<IndexMetadata> indexes;
+    private final long fullUpdateMask;
+    @Getter(AccessLevel.NONE)
+    private final Map<Long, UpdateShape> updateShapes = new ConcurrentHashMap<>();
+    private final RowMapper<T> rowMapper;
+    @Getter(AccessLevel.NONE)
+    private final Map<List<ColumnMetadata>, RowMapper<T>> rowMappers = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public static <T> EntityMetadata<T> of(Class<T> entityClass) {
+        return (EntityMetadata<T>) CACHE.computeIfAbsent(entityClass, EntityMetadata::new);
+    }
+
+    private EntityMetadata(Class<T> entityClass) {
+        this.entityClass = entityClass;
+        this.tableName = entityClass.getSimpleName().toLowerCase() + "s";
+
+        List<ColumnMetadata> columns = new ArrayList<>();
+        ColumnMetadata primaryKey = null;
+        for (Field field : entityClass.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+            ColumnMetadata column = new ColumnMetadata(field);
+            if (column.isPrimaryKey() && primaryKey == null) {
+                primaryKey = column;
+            }
+            columns.add(column);
+        }
+
+        this.columns = List.copyOf(columns);
+        this.primaryKey = primaryKey;
+        this.insertColumns = primaryKey == null
+                ? this.columns
+                : this.columns.stream().filter(column -> !column.isPrimaryKey()).toList();
+        this.updateColumns = this.columns.stream().filter(column -> !column.isPrimaryKey()).toList();
+        this.uniqueColumns = this.columns.stream().filter(ColumnMetadata::isUnique).toList();
+        this.insertWithIdColumns = primaryKey == null ? null : this.columns;
+
+        PrimaryGeneratedColumn generated = primaryKey == null ? null : primaryKey.getField().getAnnotation(PrimaryGeneratedColumn.class);
+        this.idStrategy = generated == null ? IdStrategy.IDENTITY : IdStrategy.of(generated.strategy());
+        this.idGeneratorClass = idStrategy == IdStrategy.CUSTOM ? resolveIdGeneratorClass(generated.strategy()) : null;
+        this.allocationSize = generated == null ? 1 : generated.allocationSize();
+        this.sequenceName = generated == null || generated.sequenceName().isEmpty() ? tableName : generated.sequenceName();
+        if (idStrategy == IdStrategy.SEQUENCE && allocationSize <= 0) {
+            throw new IllegalArgumentException("allocationSize on entity '" + entityClass.getSimpleName() + "' must be positive");
+        }
+
+        Map<String, ColumnMetadata> byProperty = new HashMap<>();
+        Map<String, ColumnMetadata> byName = new HashMap<>();
+        for (ColumnMetadata column : this.columns) {
+            byProperty.put(column.getPropertyName(), column);
+            byName.put(column.getColumnName(), column);
+        }
+        this.columnsByProperty = Map.copyOf(byProperty);
+        this.columnsByName = Map.copyOf(byName);
+
+        try {
+            Constructor<T> declaredConstructor = entityClass.getDeclaredConstructor();
+            declaredConstructor.setAccessible(true);
+            this.constructor = MethodHandles.lookup().unreflectConstructor(declaredConstructor)
+                    .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new RuntimeException("Entity '" + entityClass.getSimpleName() + "' must declare a no-argument constructor", e);
+        }
+
+        this.selectSql = "SELECT " + joinColumnNames(this.columns) + " FROM " + tableName;
+        this.selectByIdSql = primaryKey == null ? null
+                : selectSql + " WHERE " + primaryKey.getColumnName() + " = ?";
+        this.insertSql = "INSERT INTO " + tableName + " (" + joinColumnNames(insertColumns) + ") VALUES (" + placeholders(insertColumns.size()) + ")";
+        this.insertWithIdSql = primaryKey == null ? null
+                : "INSERT INTO " + tableName + " (" + joinColumnNames(columns) + ") VALUES (" + placeholders(columns.size()) + ")";
+        this.updateSql = primaryKey == null ? null
+                : "UPDATE " + tableName + " SET " + updateColumns.stream().map(column -> column.getColumnName() + " = ?").collect(Collectors.joining(", "))
+                + " WHERE " + primaryKey.getColumnName() + " = ?";
+        this.deleteSql = primaryKey == null ? null
+                : "DELETE FROM " + tableName + " WHERE " + primaryKey.getColumnName() + " = ?";
+        this.createTableSql = buildCreateTableSql();
+
+        this.indexes = buildIndexes();
+        this.fullUpdateMask = updateColumns.size() >= 64 ? -1L : (1L << updateColumns.size()) - 1;
+        this.rowMapper = rowMapper(this.columns);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T newInstance() {
+        try {
+            return (T) (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to create entity instance: " + e.getMessage(), e);
+        }
+    }
+
+    public ColumnMetadata requireColumn(String name) {
+        ColumnMetadata column = columnsByProperty.get(name);
+        if (column == null) {
+            column = columnsByName.get(name);
+        }
+        if (column == null) {
+            throw new IllegalArgumentException("Unknown column '" + name + "' on entity '" + entityClass.getSimpleName() + "'");
+        }
+        return column;
+    }
+
+    public RowMapper<T> rowMapper(List<ColumnMetadata> selection) {
+        return rowMappers.computeIfAbsent(List.copyOf(selection), shape -> new RowMapper<>(this, shape));
+    }
+
+    public UpdateShape updateShape(long mask) {
+        if (updateColumns.size() > 64) {
+            mask = fullUpdateMask;
+        }
+        return updateShapes.computeIfAbsent(mask & fullUpdateMask, m -> new UpdateShape(tableName, primaryKey, updateColumns, m));
+    }
+
+    public T copy(T entity) {
+        T copy = newInstance();
+        for (ColumnMetadata column : columns) {
+            column.set(copy, column.get(entity));
+        }
+        return copy;
+    }
+
+    public Long getId(T entity) {
+        return (Long) primaryKey.get(entity);
+    }
+
+    public void setId(T entity, Long id) {
+        primaryKey.set(entity, id);
+    }
+
+    public String resolveColumnName(String key) {
+        ColumnMetadata column = columnsByProperty.get(key);
+        if (column != null) {
+            return column.getColumnName();
+        }
+        return key;
+    }
+
+    private List<IndexMetadata> buildIndexes() {
+        Map<String, IndexMetadata> indexes = new LinkedHashMap<>();
+
+        for (ColumnMetadata column : columns) {
+            Column columnAnnotation = column.getField().getAnnotation(Column.class);
+            if (columnAnnotation != null && columnAnnotation.index() && !column.isUnique() && !column.isPrimaryKey()) {
+                addIndex(indexes, new IndexMetadata(tableName, "", List.of(column.getColumnName()), false));
+            }
+            for (Index index : column.getField().getAnnotationsByType(Index.class)) {
+                List<String> columnNames = index.columns().length == 0
+                        ? List.of(column.getColumnName())
+                        : resolveColumnNames(index.columns());
+                addIndex(indexes, new IndexMetadata(tableName, index.name(), columnNames, index.unique()));
+            }
+        }
+
+        for (Index index : entityClass.getAnnotationsByType(Index.class)) {
+            if (index.columns().length == 0) {
+                throw new IllegalArgumentException("@Index on entity '" + entityClass.getSimpleName() + "' must list its columns");
+            }
+            addIndex(indexes, new IndexMetadata(tableName, index.name(), resolveColumnNames(index.columns()), index.unique()));
+        }
+        return List.copyOf(indexes.values());
+    }
+
+    private void addIndex(Map<String, IndexMetadata> indexes, IndexMetadata index) {
+        if (indexes.putIfAbsent(index.getName(), index) != null) {
+            throw new IllegalArgumentException("Duplicate index '" + index.getName() + "' on entity '" + entityClass.getSimpleName() + "'");
+        }
+    }
+
+    private List<String> resolveColumnNames(String[] names) {
+        List<String> columnNames = new ArrayList<>();
+        for (String name : names) {
+            columnNames.add(requireColumn(name).getColumnName());
+        }
+        return columnNames;
+    }
+
+    private String buildCreateTableSql() {
+        StringBuilder sql = new StringBuilder("CREATE TABLE IF NOT EXISTS " + tableName + " (");
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnMetadata column = columns.get(i);
+            sql.append(column.getColumnName()).append(" ").append(column.getSqlType());
+
+            if (column.isPrimaryKey()) {
+                sql.append(idStrategy == IdStrategy.IDENTITY ? " PRIMARY KEY AUTOINCREMENT" : " PRIMARY KEY");
+            } else if (column.isUnique()) {
+                sql.append(" UNIQUE");
+            }
+
+            if (i < columns.size() - 1) {
+                sql.append(", ");
+            }
+        }
+        return sql.append(")").toString();
+    }
+
+    public boolean isIdPreassigned() {
+        return primaryKey != null && idStrategy != IdStrategy.IDENTITY;
+    }
+
+    private Class<? extends IdGenerator> resolveIdGeneratorClass(String className) {
+        try {
+            Class<?> generatorClass = Class.forName(className);
+            if (!IdGenerator.class.isAssignableFrom(generatorClass)) {
+                throw new IllegalArgumentException("Id strategy '" + className + "' on entity '" + entityClass.getSimpleName() + "' does not implement IdGenerator");
+            }
+            return generatorClass.asSubclass(IdGenerator.class);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown id strategy '" + className + "' on entity '" + entityClass.getSimpleName()
+                    + "'. Expected 'AUTO', 'identity', 'increment', 'sequence', 'hilo' or an IdGenerator class name.", e);
+        }
+    }
+
+    private static String joinColumnNames(List<ColumnMetadata> columns) {
+        return columns.stream().map(ColumnMetadata::getColumnName).collect(Collectors.joining(", "));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,21 @@
+package io.github._3xhaust.orm.metadata;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class IndexMetadata {
+    private final String name;
+    private final List<String> columnNames;
+    private final boolean unique;
+    private final String createSql;
+
+    IndexMetadata(String tableName, String name, List<String> columnNames, boolean unique) {
+        this.name = name.isEmpty() ? "idx_" + tableName + "_" + String.join("_", columnNames) : name;
+        this.columnNames = List.copyOf(columnNames);
+        this.unique = unique;
+        this.createSql = "CREATE " + (unique ? "UNIQUE " : "") + "INDEX " + this.name
+                + " ON " + tableName + " (" + String.join(", ", columnNames) + ")";
+    }
+}
@@ -0,0 +1,37 @@
+package io.github._3xhaust.orm.metadata;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+public final class RowMapper<T> {
+    @FunctionalInterface
+    interface ColumnReader {
+        void read(ResultSet resultSet, int index, Object entity) throws Throwable;
+    }
+
+    private final EntityMetadata<T> metadata;
+    private final ColumnReader[] readers;
+
+    RowMapper(EntityMetadata<T> metadata, List<ColumnMetadata> selection) {
+        this.metadata = metadata;
+        this.readers = new ColumnReader[selection.size()];
+        for (int i = 0; i < readers.length; i++) {
+            readers[i] = selection.get(i).getReader();
+        }
+    }
+
+    public T map(ResultSet resultSet) throws SQLException {
+        T entity = metadata.newInstance();
+        for (int i = 0; i < readers.length; i++) {
+            try {
+                readers[i].read(resultSet, i + 1, entity);
+            } catch (SQLException | RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException("Failed to map column " + (i + 1) + " of " + metadata.getTableName() + ": " + e.getMessage(), e);
+            }
+        }
+        return entity;
+    }
+}
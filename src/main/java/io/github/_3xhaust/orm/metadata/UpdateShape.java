@@ -0,0 +1,27 @@
+package io.github._3xhaust.orm.metadata;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+public class UpdateShape {
+    private final long mask;
+    private final List<ColumnMetadata> columns;
+    private final String sql;
+
+    UpdateShape(String tableName, ColumnMetadata primaryKey, List<ColumnMetadata> updateColumns, long mask) {
+        List<ColumnMetadata> columns = new ArrayList<>();
+        for (int i = 0; i < updateColumns.size(); i++) {
+            if ((mask & (1L << i)) != 0) {
+                columns.add(updateColumns.get(i));
+            }
+        }
+        this.mask = mask;
+        this.columns = List.copyOf(columns);
+        this.sql = "UPDATE " + tableName + " SET " + columns.stream().map(column -> column.getColumnName() + " = ?").collect(Collectors.joining(", "))
+                + " WHERE " + primaryKey.getColumnName() + " = ?";
+    }
+}
@@ -0,0 +1,16 @@
+package io.github._3xhaust.orm.pagination;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class Page<T> {
+    private final List<T> items;
+    private final int limit;
+    private final Integer offset;
+    private final String nextCursor;
+    private final boolean hasNext;
+}
@@ -0,0 +1,46 @@
+package io.github._3xhaust.orm.pagination;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github._3xhaust.serialization.JsonCodec;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@RequiredArgsConstructor
+public class PageCursor {
+    private final String sort;
+    private final Object value;
+    private final Object id;
+
+    public String encode() {
+        Map<String, Object> token = new LinkedHashMap<>();
+        token.put("s", sort);
+        token.put("v", value);
+        token.put("id", id);
+        try {
+            byte[] json = JsonCodec.shared().getObjectMapper().writeValueAsBytes(token);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to encode page cursor: " + e.getMessage(), e);
+        }
+    }
+
+    public static PageCursor decode(String token) {
+        try {
+            ObjectMapper objectMapper = JsonCodec.shared().getObjectMapper();
+            JsonNode node = objectMapper.readTree(Base64.getUrlDecoder().decode(token));
+            return new PageCursor(
+                    node.get("s").asText(),
+                    objectMapper.treeToValue(node.get("v"), Object.class),
+                    objectMapper.treeToValue(node.get("id"), Object.class)
+            );
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.github._3xhaust.orm.pagination;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class PageRequest {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 1000;
+
+    private Integer limit;
+    private Integer offset;
+    private String cursor;
+    private String sort;
+    private String order;
+
+    public static PageRequest of(int limit) {
+        PageRequest request = new PageRequest();
+        request.setLimit(limit);
+        return request;
+    }
+
+    public static PageRequest of(int limit, int offset) {
+        PageRequest request = of(limit);
+        request.setOffset(offset);
+        return request;
+    }
+
+    public static PageRequest after(String cursor, int limit) {
+        PageRequest request = of(limit);
+        request.setCursor(cursor);
+        return request;
+    }
+
+    public PageRequest sortBy(String sort, String order) {
+        this.sort = sort;
+        this.order = order;
+        return this;
+    }
+
+    public int resolveLimit() {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public boolean isDescending() {
+        if (order == null || order.equalsIgnoreCase("asc")) {
+            return false;
+        }
+        if (order.equalsIgnoreCase("desc")) {
+            return true;
+        }
+        throw new IllegalArgumentException("Invalid sort order: " + order + ". Expected 'asc' or 'desc'.");
+    }
+}
@@ -0,0 +1,345 @@
+package io.github._3xhaust.orm.pool;
+
+import io.github._3xhaust.orm.transaction.Transaction;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ConnectionPool implements AutoCloseable {
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+    private final PoolOptions options;
+    private final List<String> initStatements;
+
+    private final Semaphore leases;
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicInteger pendingAcquires = new AtomicInteger();
+    private final ScheduledExecutorService housekeeper;
+    private final ThreadLocal<Transaction> boundTransaction = new ThreadLocal<>();
+    private volatile boolean closed = false;
+
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireTimeouts = new LongAdder();
+    private final LongAdder createdConnections = new LongAdder();
+    private final LongAdder evictedConnections = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public ConnectionPool(String jdbcUrl, String username, String password, PoolOptions options) {
+        this(jdbcUrl, username, password, options, List.of());
+    }
+
+    public ConnectionPool(String jdbcUrl, String username, String password, PoolOptions options, List<String> initStatements) {
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+        this.options = options;
+        this.initStatements = List.copyOf(initStatements);
+        this.leases = new Semaphore(options.getMaxSize(), true);
+
+        if (!this.initStatements.isEmpty() && reserveSlot()) {
+            try {
+                idle.offerLast(openConnection());
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to open the initial database connection: " + e.getMessage(), e);
+            }
+        }
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "avnoi-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1_000, Math.min(options.getIdleTimeout() / 2, 30_000));
+        housekeeper.scheduleWithFixedDelay(this::housekeep, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public Connection getConnection() throws SQLException {
+        Transaction transaction = boundTransaction.get();
+        if (transaction != null) {
+            return transaction.getSharedConnection();
+        }
+        return acquire();
+    }
+
+    public Connection getDetachedConnection() throws SQLException {
+        return acquire();
+    }
+
+    private Connection acquire() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        long start = System.nanoTime();
+        pendingAcquires.incrementAndGet();
+        try {
+            if (!leases.tryAcquire(options.getAcquireTimeout(), TimeUnit.MILLISECONDS)) {
+                acquireTimeouts.increment();
+                throw new SQLTimeoutException("Timed out after " + options.getAcquireTimeout() + "ms waiting for a database connection, " + getMetrics());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        } finally {
+            pendingAcquires.decrementAndGet();
+        }
+        recordWait(System.nanoTime() - start);
+
+        try {
+            PooledConnection pooled;
+            do {
+                pooled = takeIdle();
+                if (pooled == null && reserveSlot()) {
+                    pooled = openConnection();
+                }
+            } while (pooled == null);
+            return pooled.lease();
+        } catch (SQLException | RuntimeException e) {
+            leases.release();
+            throw e;
+        }
+    }
+
+    public Transaction getCurrentTransaction() {
+        return boundTransaction.get();
+    }
+
+    public void bindTransaction(Transaction transaction) {
+        boundTransaction.set(transaction);
+    }
+
+    public void unbindTransaction() {
+        boundTransaction.remove();
+    }
+
+    public PoolMetrics getMetrics() {
+        long acquired = acquireCount.sum();
+        return new PoolMetrics(
+                totalConnections.get(),
+                options.getMaxSize() - leases.availablePermits(),
+                idle.size(),
+                options.getMaxSize(),
+                pendingAcquires.get(),
+                acquired,
+                acquireTimeouts.sum(),
+                createdConnections.sum(),
+                evictedConnections.sum(),
+                acquired == 0 ? 0 : totalWaitNanos.sum() / 1_000_000.0 / acquired,
+                maxWaitNanos.get() / 1_000_000.0
+        );
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        try {
+            housekeeper.awaitTermination(options.getAcquireTimeout(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            discard(pooled);
+        }
+    }
+
+    private PooledConnection takeIdle() {
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (System.currentTimeMillis() - pooled.lastUsed < options.getValidationInterval() || isValid(pooled)) {
+                return pooled;
+            }
+            discard(pooled);
+        }
+        return null;
+    }
+
+    private boolean isValid(PooledConnection pooled) {
+        try {
+            return pooled.connection.isValid(options.getValidationTimeout());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private boolean reserveSlot() {
+        while (true) {
+            int current = totalConnections.get();
+            if (current >= options.getMaxSize()) {
+                return false;
+            }
+            if (totalConnections.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private PooledConnection openConnection() throws SQLException {
+        try {
+            Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : initStatements) {
+                    statement.execute(sql);
+                }
+            } catch (SQLException e) {
+                connection.close();
+                throw e;
+            }
+            createdConnections.increment();
+            return new PooledConnection(connection);
+        } catch (SQLException | RuntimeException e) {
+            totalConnections.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void release(PooledConnection pooled, boolean broken) {
+        try {
+            if (!broken && !pooled.connection.isClosed() && !pooled.connection.getAutoCommit()) {
+                pooled.connection.rollback();
+                pooled.connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            broken = true;
+        }
+
+        try {
+            if (closed || broken || pooled.connection.isClosed()) {
+                discard(pooled);
+            } else {
+                pooled.lastUsed = System.currentTimeMillis();
+                idle.offerFirst(pooled);
+            }
+        } catch (SQLException e) {
+            discard(pooled);
+        } finally {
+            leases.release();
+        }
+    }
+
+    private void discard(PooledConnection pooled) {
+        totalConnections.decrementAndGet();
+        try {
+            pooled.connection.close();
+        } catch (SQLException e) {
+            System.err.println("Failed to close pooled connection: " + e.getMessage());
+        }
+    }
+
+    private void housekeep() {
+        try {
+            long now = System.currentTimeMillis();
+            for (PooledConnection pooled : idle) {
+                if (totalConnections.get() <= options.getMinSize()) {
+                    break;
+                }
+                if (now - pooled.lastUsed > options.getIdleTimeout() && idle.removeLastOccurrence(pooled)) {
+                    discard(pooled);
+                    evictedConnections.increment();
+                }
+            }
+
+            while (!closed && totalConnections.get() < options.getMinSize() && reserveSlot()) {
+                idle.offerLast(openConnection());
+            }
+        } catch (SQLException | RuntimeException e) {
+            System.err.println("Connection pool housekeeping failed: " + e.getMessage());
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        acquireCount.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private final class PooledConnection {
+        private final Connection connection;
+        private volatile long lastUsed = System.currentTimeMillis();
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        private Connection lease() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new LeaseHandler(this)
+            );
+        }
+    }
+
+    private final class LeaseHandler implements InvocationHandler {
+        private final PooledConnection pooled;
+        private boolean returned = false;
+        private boolean broken = false;
+
+        private LeaseHandler(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!returned) {
+                        returned = true;
+                        release(pooled, broken);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    if (returned) {
+                        return true;
+                    }
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "PooledConnection[" + pooled.connection + "]";
+                }
+            }
+
+            if (returned) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+
+            try {
+                return method.invoke(pooled.connection, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException sqlException
+                        && sqlException.getSQLState() != null
+                        && sqlException.getSQLState().startsWith("08")) {
+                    broken = true;
+                }
+                throw cause;
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.github._3xhaust.orm.pool;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class PoolMetrics {
+    private final int totalConnections;
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int maxConnections;
+    private final int pendingAcquires;
+    private final long acquireCount;
+    private final long acquireTimeouts;
+    private final long createdConnections;
+    private final long evictedConnections;
+    private final double averageWaitMillis;
+    private final double maxWaitMillis;
+
+    public double getUtilization() {
+        return maxConnections == 0 ? 0 : (double) activeConnections / maxConnections;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("pool[active=%d, idle=%d, total=%d/%d, pending=%d, acquired=%d, timeouts=%d, avgWait=%.2fms, maxWait=%.2fms]",
+                activeConnections, idleConnections, totalConnections, maxConnections, pendingAcquires,
+                acquireCount, acquireTimeouts, averageWaitMillis, maxWaitMillis);
+    }
+}
@@ -0,0 +1,74 @@
+package io.github._3xhaust.orm.pool;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+public class PoolOptions {
+    private int minSize = 1;
+    private int maxSize = 10;
+    private long idleTimeout = 600_000;
+    private long acquireTimeout = 30_000;
+    private int validationTimeout = 2;
+    private long validationInterval = 30_000;
+
+    public PoolOptions() {
+    }
+
+    public PoolOptions(Map<String, Object> options) {
+        if (options.containsKey("minSize")) this.setMinSize(options.get("minSize"));
+        if (options.containsKey("maxSize")) this.setMaxSize(options.get("maxSize"));
+        if (options.containsKey("idleTimeout")) this.setIdleTimeout(options.get("idleTimeout"));
+        if (options.containsKey("acquireTimeout")) this.setAcquireTimeout(options.get("acquireTimeout"));
+        if (options.containsKey("validationTimeout")) this.setValidationTimeout(options.get("validationTimeout"));
+        if (options.containsKey("validationInterval")) this.setValidationInterval(options.get("validationInterval"));
+
+        if (minSize > maxSize) {
+            throw new IllegalArgumentException("Pool minSize (" + minSize + ") must not exceed maxSize (" + maxSize + ")");
+        }
+    }
+
+    public void setMinSize(Object minSize) {
+        if (minSize instanceof Integer && (Integer) minSize >= 0) {
+            this.minSize = (Integer) minSize;
+        } else {
+            throw new IllegalArgumentException("Invalid minSize value: " + minSize);
+        }
+    }
+
+    public void setMaxSize(Object maxSize) {
+        if (maxSize instanceof Integer && (Integer) maxSize > 0) {
+            this.maxSize = (Integer) maxSize;
+        } else {
+            throw new IllegalArgumentException("Invalid maxSize value: " + maxSize);
+        }
+    }
+
+    public void setIdleTimeout(Object idleTimeout) {
+        this.idleTimeout = toMillis("idleTimeout", idleTimeout);
+    }
+
+    public void setAcquireTimeout(Object acquireTimeout) {
+        this.acquireTimeout = toMillis("acquireTimeout", acquireTimeout);
+    }
+
+    public void setValidationTimeout(Object validationTimeout) {
+        if (validationTimeout instanceof Integer && (Integer) validationTimeout >= 0) {
+            this.validationTimeout = (Integer) validationTimeout;
+        } else {
+            throw new IllegalArgumentException("Invalid validationTimeout value: " + validationTimeout);
+        }
+    }
+
+    public void setValidationInterval(Object validationInterval) {
+        this.validationInterval = toMillis("validationInterval", validationInterval);
+    }
+
+    private static long toMillis(String name, Object value) {
+        if ((value instanceof Integer || value instanceof Long) && ((Number) value).longValue() >= 0) {
+            return ((Number) value).longValue();
+        }
+        throw new IllegalArgumentException("Invalid " + name + " value: " + value);
+    }
+}
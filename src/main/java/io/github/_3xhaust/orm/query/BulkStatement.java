@@ -0,0 +1,79 @@
+package io.github._3xhaust.orm.query;
+
+import io.github._3xhaust.orm.metadata.ColumnMetadata;
+import io.github._3xhaust.orm.metadata.EntityMetadata;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Getter
+public class BulkStatement {
+    private final String sql;
+    private final List<Object> params;
+    private final boolean update;
+
+    private BulkStatement(String sql, List<Object> params, boolean update) {
+        this.sql = sql;
+        this.params = Collections.unmodifiableList(params);
+        this.update = update;
+    }
+
+    public static BulkStatement delete(EntityMetadata<?> metadata, Consumer<ConditionGroup> criteria) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("DELETE FROM ").append(metadata.getTableName());
+        appendWhere(metadata, criteria, sql, params);
+        return new BulkStatement(sql.toString(), params, false);
+    }
+
+    public static BulkStatement update(EntityMetadata<?> metadata, Consumer<ConditionGroup> criteria, Map<String, Object> assignments) {
+        if (assignments == null || assignments.isEmpty()) {
+            throw new IllegalArgumentException("updateWhere on '" + metadata.getEntityClass().getSimpleName() + "' needs at least one assignment");
+        }
+
+        List<Object> params = new ArrayList<>();
+        List<String> setters = new ArrayList<>();
+        for (Map.Entry<String, Object> assignment : assignments.entrySet()) {
+            ColumnMetadata column = metadata.requireColumn(assignment.getKey());
+            if (column.isPrimaryKey()) {
+                throw new IllegalArgumentException("updateWhere cannot assign the primary key '" + column.getPropertyName() + "'");
+            }
+            setters.add(column.getColumnName() + " = ?");
+            params.add(assignment.getValue());
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE ").append(metadata.getTableName())
+                .append(" SET ").append(String.join(", ", setters));
+        appendWhere(metadata, criteria, sql, params);
+        return new BulkStatement(sql.toString(), params, true);
+    }
+
+    public static Consumer<ConditionGroup> matching(Map<String, Object> where) {
+        return group -> {
+            if (where == null) {
+                return;
+            }
+            for (Map.Entry<String, Object> entry : where.entrySet()) {
+                if (entry.getValue() instanceof Collection<?> values) {
+                    group.in(entry.getKey(), values);
+                } else {
+                    group.eq(entry.getKey(), entry.getValue());
+                }
+            }
+        };
+    }
+
+    private static void appendWhere(EntityMetadata<?> metadata, Consumer<ConditionGroup> criteria, StringBuilder sql, List<Object> params) {
+        ConditionGroup group = new ConditionGroup(metadata, false);
+        criteria.accept(group);
+        if (group.isEmpty()) {
+            throw new IllegalArgumentException("Bulk statement on '" + metadata.getEntityClass().getSimpleName() + "' needs at least one condition");
+        }
+        sql.append(" WHERE ");
+        group.appendSql(sql, params);
+    }
+}
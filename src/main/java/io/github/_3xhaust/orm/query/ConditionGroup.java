@@ -0,0 +1,14 @@
+package io.github._3xhaust.orm.query;
+
+import io.github._3xhaust.orm.metadata.EntityMetadata;
+
+public class ConditionGroup extends Conditions<ConditionGroup> {
+    ConditionGroup(EntityMetadata<?> metadata, boolean disjunction) {
+        super(metadata, disjunction);
+    }
+
+    @Override
+    protected ConditionGroup self() {
+        return this;
+    }
+}
@@ -0,0 +1,127 @@
+package io.github._3xhaust.orm.query;
+
+import io.github._3xhaust.orm.metadata.EntityMetadata;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+public abstract class Conditions<S extends Conditions<S>> {
+    protected final EntityMetadata<?> metadata;
+    private final boolean disjunction;
+    private final List<Object> parts = new ArrayList<>();
+
+    protected Conditions(EntityMetadata<?> metadata, boolean disjunction) {
+        this.metadata = metadata;
+        this.disjunction = disjunction;
+    }
+
+    protected abstract S self();
+
+    public S where(String column, Operator operator, Object value) {
+        if (operator == Operator.IN || operator == Operator.NOT_IN) {
+            if (!(value instanceof Collection)) {
+                throw new IllegalArgumentException(operator + " requires a collection value for column: " + column);
+            }
+        } else if (operator == Operator.BETWEEN) {
+            if (!(value instanceof Object[] bounds) || bounds.length != 2) {
+                throw new IllegalArgumentException("BETWEEN requires exactly two bounds for column: " + column);
+            }
+        } else if (value == null && (operator == Operator.EQ || operator == Operator.NE)) {
+            operator = operator == Operator.EQ ? Operator.IS_NULL : Operator.IS_NOT_NULL;
+        }
+        parts.add(new Predicate(metadata.requireColumn(column).getColumnName(), operator, value));
+        return self();
+    }
+
+    public S eq(String column, Object value) {
+        return where(column, Operator.EQ, value);
+    }
+
+    public S ne(String column, Object value) {
+        return where(column, Operator.NE, value);
+    }
+
+    public S gt(String column, Object value) {
+        return where(column, Operator.GT, value);
+    }
+
+    public S gte(String column, Object value) {
+        return where(column, Operator.GTE, value);
+    }
+
+    public S lt(String column, Object value) {
+        return where(column, Operator.LT, value);
+    }
+
+    public S lte(String column, Object value) {
+        return where(column, Operator.LTE, value);
+    }
+
+    public S like(String column, String pattern) {
+        return where(column, Operator.LIKE, pattern);
+    }
+
+    public S notLike(String column, String pattern) {
+        return where(column, Operator.NOT_LIKE, pattern);
+    }
+
+    public S in(String column, Collection<?> values) {
+        return where(column, Operator.IN, values);
+    }
+
+    public S notIn(String column, Collection<?> values) {
+        return where(column, Operator.NOT_IN, values);
+    }
+
+    public S isNull(String column) {
+        return where(column, Operator.IS_NULL, null);
+    }
+
+    public S isNotNull(String column) {
+        return where(column, Operator.IS_NOT_NULL, null);
+    }
+
+    public S between(String column, Object from, Object to) {
+        return where(column, Operator.BETWEEN, new Object[]{from, to});
+    }
+
+    public S or(Consumer<ConditionGroup> group) {
+        return group(group, true);
+    }
+
+    public S and(Consumer<ConditionGroup> group) {
+        return group(group, false);
+    }
+
+    boolean isEmpty() {
+        return parts.isEmpty();
+    }
+
+    void appendSql(StringBuilder sql, List<Object> params) {
+        String joiner = disjunction ? " OR " : " AND ";
+        for (int i = 0; i < parts.size(); i++) {
+            if (i > 0) {
+                sql.append(joiner);
+            }
+            Object part = parts.get(i);
+            if (part instanceof Predicate predicate) {
+                predicate.appendSql(sql, params);
+            } else {
+                sql.append('(');
+                ((Conditions<?>) part).appendSql(sql, params);
+                sql.append(')');
+            }
+        }
+    }
+
+    private S group(Consumer<ConditionGroup> configurer, boolean disjunction) {
+        ConditionGroup group = new ConditionGroup(metadata, disjunction);
+        configurer.accept(group);
+        if (!group.isEmpty()) {
+            parts.add(group);
+        }
+        return self();
+    }
+}
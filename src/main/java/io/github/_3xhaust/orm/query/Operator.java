@@ -0,0 +1,27 @@
+package io.github._3xhaust.orm.query;
+
+public enum Operator {
+    EQ("="),
+    NE("<>"),
+    GT(">"),
+    GTE(">="),
+    LT("<"),
+    LTE("<="),
+    LIKE("LIKE"),
+    NOT_LIKE("NOT LIKE"),
+    IN("IN"),
+    NOT_IN("NOT IN"),
+    IS_NULL("IS NULL"),
+    IS_NOT_NULL("IS NOT NULL"),
+    BETWEEN("BETWEEN");
+
+    private final String sql;
+
+    Operator(String sql) {
+        this.sql = sql;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+}
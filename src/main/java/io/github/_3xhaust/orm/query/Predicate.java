@@ -0,0 +1,33 @@
+package io.github._3xhaust.orm.query;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+record Predicate(String column, Operator operator, Object value) {
+    void appendSql(StringBuilder sql, List<Object> params) {
+        switch (operator) {
+            case IS_NULL, IS_NOT_NULL -> sql.append(column).append(' ').append(operator.getSql());
+            case IN, NOT_IN -> {
+                Collection<?> values = (Collection<?>) value;
+                if (values.isEmpty()) {
+                    sql.append(operator == Operator.IN ? "1 = 0" : "1 = 1");
+                    return;
+                }
+                sql.append(column).append(' ').append(operator.getSql()).append(" (")
+                        .append(String.join(", ", Collections.nCopies(values.size(), "?"))).append(')');
+                params.addAll(values);
+            }
+            case BETWEEN -> {
+                Object[] bounds = (Object[]) value;
+                sql.append(column).append(" BETWEEN ? AND ?");
+                params.add(bounds[0]);
+                params.add(bounds[1]);
+            }
+            default -> {
+                sql.append(column).append(' ').append(operator.getSql()).append(" ?");
+                params.add(value);
+            }
+        }
+    }
+}
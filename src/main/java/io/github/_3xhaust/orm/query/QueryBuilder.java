@@ -0,0 +1,215 @@
+package io.github._3xhaust.orm.query;
+
+import io.github._3xhaust.orm.metadata.ColumnMetadata;
+import io.github._3xhaust.orm.metadata.EntityMetadata;
+import io.github._3xhaust.orm.metadata.RowMapper;
+import io.github._3xhaust.orm.pool.ConnectionPool;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public class QueryBuilder<T> extends Conditions<QueryBuilder<T>> {
+    private final EntityMetadata<T> entityMetadata;
+    private final ConnectionPool connectionPool;
+    private final Consumer<T> onLoad;
+    private List<ColumnMetadata> selection;
+    private final List<String> orderBy = new ArrayList<>();
+    private Integer limit;
+    private Integer offset;
+
+    public QueryBuilder(EntityMetadata<T> metadata, ConnectionPool connectionPool, Consumer<T> onLoad) {
+        super(metadata, false);
+        this.entityMetadata = metadata;
+        this.connectionPool = connectionPool;
+        this.onLoad = onLoad;
+        this.selection = metadata.getColumns();
+    }
+
+    @Override
+    protected QueryBuilder<T> self() {
+        return this;
+    }
+
+    public QueryBuilder<T> select(String... columns) {
+        List<ColumnMetadata> selected = new ArrayList<>();
+        for (String column : columns) {
+            selected.add(entityMetadata.requireColumn(column));
+        }
+        this.selection = selected.isEmpty() ? entityMetadata.getColumns() : List.copyOf(selected);
+        return this;
+    }
+
+    public QueryBuilder<T> orderBy(String column) {
+        return orderBy(column, "asc");
+    }
+
+    public QueryBuilder<T> orderBy(String column, String direction) {
+        String columnName = entityMetadata.requireColumn(column).getColumnName();
+        if (direction.equalsIgnoreCase("asc")) {
+            orderBy.add(columnName + " ASC");
+        } else if (direction.equalsIgnoreCase("desc")) {
+            orderBy.add(columnName + " DESC");
+        } else {
+            throw new IllegalArgumentException("Invalid sort order: " + direction + ". Expected 'asc' or 'desc'.");
+        }
+        return this;
+    }
+
+    public QueryBuilder<T> limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Invalid limit value: " + limit);
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    public QueryBuilder<T> offset(int offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Invalid offset value: " + offset);
+        }
+        this.offset = offset;
+        return this;
+    }
+
+    public List<T> getMany() {
+        requireTrackableSelection();
+        List<Object> params = new ArrayList<>();
+        String sql = buildSelectSql(params, limit);
+
+        RowMapper<T> rowMapper = entityMetadata.rowMapper(selection);
+        List<T> results = new ArrayList<>();
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = prepare(connection, sql, params);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                T entity = rowMapper.map(resultSet);
+                onLoad.accept(entity);
+                results.add(entity);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to execute query: " + e.getMessage(), e);
+        }
+        return results;
+    }
+
+    public T getOne() {
+        requireTrackableSelection();
+        List<Object> params = new ArrayList<>();
+        String sql = buildSelectSql(params, 1);
+
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = prepare(connection, sql, params);
+             ResultSet resultSet = statement.executeQuery()) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            T entity = entityMetadata.rowMapper(selection).map(resultSet);
+            onLoad.accept(entity);
+            return entity;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to execute query: " + e.getMessage(), e);
+        }
+    }
+
+    public List<Map<String, Object>> getRawMany() {
+        List<Object> params = new ArrayList<>();
+        String sql = buildSelectSql(params, limit);
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = prepare(connection, sql, params);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                for (int i = 0; i < selection.size(); i++) {
+                    row.put(selection.get(i).getPropertyName(), resultSet.getObject(i + 1));
+                }
+                results.add(row);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to execute query: " + e.getMessage(), e);
+        }
+        return results;
+    }
+
+    public long count() {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM ").append(entityMetadata.getTableName());
+        appendWhere(sql, params);
+
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = prepare(connection, sql.toString(), params);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to count entities: " + e.getMessage(), e);
+        }
+    }
+
+    public boolean exists() {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT 1 FROM ").append(entityMetadata.getTableName());
+        appendWhere(sql, params);
+        sql.append(" LIMIT 1");
+
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = prepare(connection, sql.toString(), params);
+             ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to check entity existence: " + e.getMessage(), e);
+        }
+    }
+
+    public String toSql() {
+        return buildSelectSql(new ArrayList<>(), limit);
+    }
+
+    private String buildSelectSql(List<Object> params, Integer limit) {
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(selection.stream().map(ColumnMetadata::getColumnName).collect(Collectors.joining(", ")))
+                .append(" FROM ").append(entityMetadata.getTableName());
+        appendWhere(sql, params);
+
+        if (!orderBy.isEmpty()) {
+            sql.append(" ORDER BY ").append(String.join(", ", orderBy));
+        }
+        if (limit != null || offset != null) {
+            sql.append(" LIMIT ?");
+            params.add(limit != null ? limit : Integer.MAX_VALUE);
+        }
+        if (offset != null) {
+            sql.append(" OFFSET ?");
+            params.add(offset);
+        }
+        return sql.toString();
+    }
+
+    private void requireTrackableSelection() {
+        if (selection != entityMetadata.getColumns() && entityMetadata.getUpdateColumns().size() > 64) {
+            throw new IllegalStateException("Partial rows of '" + entityMetadata.getEntityClass().getSimpleName()
+                    + "' cannot be change-tracked; use getRawMany() for projections");
+        }
+    }
+
+    private void appendWhere(StringBuilder sql, List<Object> params) {
+        if (!isEmpty()) {
+            sql.append(" WHERE ");
+            appendSql(sql, params);
+        }
+    }
+
+    private PreparedStatement prepare(Connection connection, String sql, List<Object> params) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        for (int i = 0; i < params.size(); i++) {
+            statement.setObject(i + 1, params.get(i));
+        }
+        return statement;
+    }
+}
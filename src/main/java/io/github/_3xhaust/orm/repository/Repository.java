@@ -1,12 +1,48 @@
 package io.github._3xhaust.orm.repository;
 
+import io.github._3xhaust.orm.cache.CacheStats;
+import io.github._3xhaust.orm.pagination.Page;
+import io.github._3xhaust.orm.pagination.PageRequest;
+import io.github._3xhaust.orm.query.ConditionGroup;
+import io.github._3xhaust.orm.query.QueryBuilder;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface Repository<T> {
     T save(T entity);
+    List<T> saveAll(Collection<T> entities);
+    T upsert(T entity, String... conflictColumns);
+    T findById(Long id);
     List<T> find();
     List<T> findOne(Map<String, Object> where);
+    QueryBuilder<T> query();
+    Page<T> findPage(PageRequest pageRequest);
+    Page<T> findPage(Map<String, Object> where, PageRequest pageRequest);
+    Stream<T> stream();
+    Stream<T> stream(Map<String, Object> where);
     void delete(T entity);
+    void deleteAll(Collection<T> entities);
+    int deleteWhere(Map<String, Object> where);
+    int deleteWhere(Consumer<ConditionGroup> criteria);
+    int updateWhere(Map<String, Object> where, Map<String, Object> assignments);
+    int updateWhere(Consumer<ConditionGroup> criteria, Map<String, Object> assignments);
     T create(Object dto);
+    T assignId(T entity);
+    CacheStats getCacheStats();
+
+    CompletableFuture<T> saveAsync(T entity);
+    CompletableFuture<List<T>> saveAllAsync(Collection<T> entities);
+    CompletableFuture<T> upsertAsync(T entity, String... conflictColumns);
+    CompletableFuture<T> findByIdAsync(Long id);
+    CompletableFuture<List<T>> findAsync();
+    CompletableFuture<List<T>> findOneAsync(Map<String, Object> where);
+    CompletableFuture<Page<T>> findPageAsync(PageRequest pageRequest);
+    CompletableFuture<Page<T>> findPageAsync(Map<String, Object> where, PageRequest pageRequest);
+    CompletableFuture<Void> deleteAsync(T entity);
+    CompletableFuture<Void> deleteAllAsync(Collection<T> entities);
 }
@@ -1,5 +1,25 @@
 package io.github._3xhaust.orm.repository;
 
+import io.github._3xhaust.orm.executor.DatabaseExecutor;
+import io.github._3xhaust.orm.pool.ConnectionPool;
+import io.github._3xhaust.orm.schema.SchemaSyncResult;
+import io.github._3xhaust.orm.transaction.TransactionCallback;
+import io.github._3xhaust.orm.transaction.WriteQueue;
+
+import java.util.Map;
+
 public interface RepositoryFactory {
     <T> Repository<T> getRepository(Class<T> entityClass);
-}
\ No newline at end of file
+
+    ConnectionPool getConnectionPool();
+
+    WriteQueue getWriteQueue();
+
+    DatabaseExecutor getDatabaseExecutor();
+
+    <R> R transaction(TransactionCallback<R> callback);
+
+    void synchronizeSchema();
+
+    Map<Class<?>, SchemaSyncResult> getSchemaSyncResults();
+}
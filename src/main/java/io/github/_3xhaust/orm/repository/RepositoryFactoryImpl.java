@@ -1,37 +1,126 @@
 package io.github._3xhaust.orm.repository;
 
 import io.github._3xhaust.orm.DataSourceOptions;
-import io.github._3xhaust.orm.connections.MysqlConnectionOptions;
 import io.github._3xhaust.orm.connections.SqliteConnectionOptions;
+import io.github._3xhaust.orm.executor.DatabaseExecutor;
+import io.github._3xhaust.orm.metadata.EntityMetadata;
+import io.github._3xhaust.orm.pool.ConnectionPool;
+import io.github._3xhaust.orm.pool.PoolOptions;
+import io.github._3xhaust.orm.schema.SchemaSyncResult;
+import io.github._3xhaust.orm.schema.SchemaSynchronizer;
+import io.github._3xhaust.orm.transaction.TransactionCallback;
+import io.github._3xhaust.orm.transaction.TransactionManager;
+import io.github._3xhaust.orm.transaction.WriteQueue;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class RepositoryFactoryImpl implements RepositoryFactory {
-    private final Map<Class<?>, Repository<?>> repositories = new HashMap<>();
+    private final Map<Class<?>, Repository<?>> repositories = new ConcurrentHashMap<>();
     private final DataSourceOptions dataSourceOptions;
+    private final ConnectionPool connectionPool;
+    private final WriteQueue writeQueue;
+    private final DatabaseExecutor databaseExecutor;
+    private final SchemaSynchronizer schemaSynchronizer;
+    private final TransactionManager transactionManager;
+    private volatile boolean schemaSynchronized = false;
 
     public RepositoryFactoryImpl(DataSourceOptions dataSourceOptions) {
         this.dataSourceOptions = dataSourceOptions;
+        List<String> initStatements = dataSourceOptions.getConnectionInitStatements();
+
+        if (dataSourceOptions.isSingleWriter()) {
+            List<String> readerInitStatements = new ArrayList<>(initStatements);
+            readerInitStatements.add("PRAGMA query_only = ON");
+            this.connectionPool = createPool(dataSourceOptions.getPoolOptions(), readerInitStatements);
+            ConnectionPool writerPool = createPool(new PoolOptions(Map.of("minSize", 1, "maxSize", 1)), initStatements);
+            SqliteConnectionOptions sqliteOptions = dataSourceOptions.getSqliteOptions();
+            this.writeQueue = new WriteQueue(writerPool, connectionPool, this, sqliteOptions.getWriteBatchSize(), sqliteOptions.getWriteQueueCapacity());
+        } else {
+            this.connectionPool = createPool(dataSourceOptions.getPoolOptions(), initStatements);
+            this.writeQueue = null;
+        }
+
+        this.databaseExecutor = new DatabaseExecutor(dataSourceOptions.getExecutorOptions());
+        this.schemaSynchronizer = new SchemaSynchronizer(connectionPool, dataSourceOptions.isLoggingEnabled());
+        this.transactionManager = new TransactionManager(connectionPool, this, writeQueue);
     }
 
     @Override
     public <T> Repository<T> getRepository(Class<T> entityClass) {
-        if (!repositories.containsKey(entityClass)) {
-            Repository<?> repository = switch (dataSourceOptions.getType()) {
-                case SQLITE -> {
-                    SqliteConnectionOptions sqliteOptions = dataSourceOptions.getSqliteOptions();
-                    yield new RepositoryImpl<>(entityClass, sqliteOptions);
-                }
-                case MYSQL -> {
-                    MysqlConnectionOptions mysqlOptions = dataSourceOptions.getMysqlOptions();
-                    yield new RepositoryImpl<>(entityClass, mysqlOptions);
-                }
-                default ->
-                        throw new IllegalArgumentException("Unsupported database type: " + dataSourceOptions.getType());
-            };
-            repositories.put(entityClass, repository);
+        Repository<?> repository = repositories.get(entityClass);
+        if (repository == null) {
+            if (schemaSynchronized && dataSourceOptions.isSynchronize()) {
+                synchronize(List.of(EntityMetadata.of(entityClass)), false);
+            }
+            repository = repositories.computeIfAbsent(entityClass, this::createRepository);
+        }
+        //noinspection unchecked
+        return (Repository<T>) repository;
+    }
+
+    @Override
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
+    @Override
+    public WriteQueue getWriteQueue() {
+        return writeQueue;
+    }
+
+    @Override
+    public DatabaseExecutor getDatabaseExecutor() {
+        return databaseExecutor;
+    }
+
+    @Override
+    public <R> R transaction(TransactionCallback<R> callback) {
+        return transactionManager.execute(callback);
+    }
+
+    @Override
+    public void synchronizeSchema() {
+        if (dataSourceOptions.isSynchronize()) {
+            Set<Class<?>> entityClasses = new LinkedHashSet<>(dataSourceOptions.getEntities());
+            entityClasses.addAll(repositories.keySet());
+
+            List<EntityMetadata<?>> entities = new ArrayList<>();
+            for (Class<?> entityClass : entityClasses) {
+                entities.add(EntityMetadata.of(entityClass));
+            }
+            synchronize(entities, dataSourceOptions.isParallelSynchronize());
         }
-        return (Repository<T>) repositories.get(entityClass);
+        schemaSynchronized = true;
+    }
+
+    @Override
+    public Map<Class<?>, SchemaSyncResult> getSchemaSyncResults() {
+        return schemaSynchronizer.getResults();
+    }
+
+    private void synchronize(List<EntityMetadata<?>> entities, boolean parallel) {
+        if (writeQueue == null || connectionPool.getCurrentTransaction() != null) {
+            schemaSynchronizer.synchronize(entities, parallel);
+            return;
+        }
+        writeQueue.execute(transaction -> {
+            schemaSynchronizer.synchronize(entities, false);
+            return null;
+        });
+    }
+
+    private ConnectionPool createPool(PoolOptions poolOptions, List<String> initStatements) {
+        return new ConnectionPool(
+                dataSourceOptions.getJdbcUrl(),
+                dataSourceOptions.getUsername(),
+                dataSourceOptions.getPassword(),
+                poolOptions,
+                initStatements
+        );
+    }
+
+    private <T> Repository<T> createRepository(Class<T> entityClass) {
+        return new RepositoryImpl<>(EntityMetadata.of(entityClass), connectionPool, writeQueue, databaseExecutor, dataSourceOptions);
     }
-}
\ No newline at end of file
+}
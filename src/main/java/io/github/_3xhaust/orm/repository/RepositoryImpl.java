@@ -1,197 +1,600 @@
 package io.github._3xhaust.orm.repository;
 
-import io.github._3xhaust.orm.connections.MysqlConnectionOptions;
-import io.github._3xhaust.orm.connections.SqliteConnectionOptions;
-import io.github._3xhaust.orm.annotations.Column;
-import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import io.github._3xhaust.orm.DataSourceOptions;
+import io.github._3xhaust.orm.annotations.Cacheable;
+import io.github._3xhaust.orm.cache.CacheStats;
+import io.github._3xhaust.orm.cache.EntityCache;
+import io.github._3xhaust.orm.exceptions.UniqueConstraintViolationException;
+import io.github._3xhaust.orm.executor.DatabaseExecutor;
+import io.github._3xhaust.orm.id.BlockIdGenerator;
+import io.github._3xhaust.orm.id.IdGenerator;
+import io.github._3xhaust.orm.id.SequenceTable;
+import io.github._3xhaust.orm.metadata.ColumnMetadata;
+import io.github._3xhaust.orm.metadata.EntityMetadata;
+import io.github._3xhaust.orm.metadata.UpdateShape;
+import io.github._3xhaust.orm.pagination.Page;
+import io.github._3xhaust.orm.pagination.PageCursor;
+import io.github._3xhaust.orm.pagination.PageRequest;
+import io.github._3xhaust.orm.pool.ConnectionPool;
+import io.github._3xhaust.orm.query.BulkStatement;
+import io.github._3xhaust.orm.query.ConditionGroup;
+import io.github._3xhaust.orm.query.QueryBuilder;
+import io.github._3xhaust.orm.tracking.SnapshotStore;
+import io.github._3xhaust.orm.transaction.Transaction;
+import io.github._3xhaust.orm.transaction.WriteQueue;
 
 import java.lang.reflect.Field;
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class RepositoryImpl<T> implements Repository<T> {
     private final Class<T> entityClass;
-    private final String jdbcUrl;
-    private final String username;
-    private final String password;
-    private Field primaryKeyField;
-
-    public RepositoryImpl(Class<T> entityClass, SqliteConnectionOptions connectionOptions) {
-        this.entityClass = entityClass;
-        this.jdbcUrl = "jdbc:sqlite:" + connectionOptions.database;
-        this.username = null;
-        this.password = null;
-        findPrimaryKeyField();
-    }
-
-    public RepositoryImpl(Class<T> entityClass, MysqlConnectionOptions connectionOptions) {
-        this.entityClass = entityClass;
-        this.jdbcUrl = "jdbc:mysql://" + connectionOptions.host + ":" + connectionOptions.port + "/" + connectionOptions.database;
-        this.username = connectionOptions.username;
-        this.password = connectionOptions.password;
-        findPrimaryKeyField();
-    }
-
-    private void findPrimaryKeyField() {
-        for (Field field : entityClass.getDeclaredFields()) {
-            if (field.isAnnotationPresent(PrimaryGeneratedColumn.class)) {
-                this.primaryKeyField = field;
-                this.primaryKeyField.setAccessible(true);
-                return;
-            }
+    private final EntityMetadata<T> metadata;
+    private final ConnectionPool connectionPool;
+    private final WriteQueue writeQueue;
+    private final DatabaseExecutor databaseExecutor;
+    private final int batchSize;
+    private final int fetchSize;
+    private final boolean batchGeneratedKeys;
+    private final DataSourceOptions.DatabaseType databaseType;
+    private final Map<List<ColumnMetadata>, String> upsertSql = new ConcurrentHashMap<>();
+    private final EntityCache<T> cache;
+    private final SnapshotStore<T> snapshots;
+    private final IdGenerator idGenerator;
+    private final SequenceTable sequenceTable;
+    private volatile boolean sequenceReady = false;
+
+    public RepositoryImpl(EntityMetadata<T> metadata, ConnectionPool connectionPool, WriteQueue writeQueue, DatabaseExecutor databaseExecutor, DataSourceOptions dataSourceOptions) {
+        this.entityClass = metadata.getEntityClass();
+        this.metadata = metadata;
+        this.connectionPool = connectionPool;
+        this.writeQueue = writeQueue;
+        this.databaseExecutor = databaseExecutor;
+        this.batchSize = dataSourceOptions.getBatchSize();
+        this.fetchSize = dataSourceOptions.getType() == DataSourceOptions.DatabaseType.MYSQL
+                ? Integer.MIN_VALUE
+                : dataSourceOptions.getFetchSize();
+        this.batchGeneratedKeys = dataSourceOptions.getType() != DataSourceOptions.DatabaseType.SQLITE;
+        this.databaseType = dataSourceOptions.getType();
+
+        Cacheable cacheable = entityClass.getAnnotation(Cacheable.class);
+        if (cacheable != null && metadata.getPrimaryKey() == null) {
+            throw new IllegalArgumentException("@Cacheable entity '" + entityClass.getSimpleName() + "' must declare a @PrimaryGeneratedColumn");
         }
-        // Primary Key 필드를 찾지 못했지만, 오류를 발생시키지 않습니다.
+        this.cache = cacheable == null ? null : new EntityCache<>(cacheable.maxSize(), cacheable.ttl(), metadata::copy);
+        this.snapshots = metadata.getPrimaryKey() == null ? null : new SnapshotStore<>(metadata.getUpdateColumns(), metadata.getFullUpdateMask());
+        this.sequenceTable = new SequenceTable(databaseType);
+        this.idGenerator = createIdGenerator();
+    }
+
+    private IdGenerator createIdGenerator() {
+        if (metadata.getPrimaryKey() == null) {
+            return null;
+        }
+        return switch (metadata.getIdStrategy()) {
+            case IDENTITY -> null;
+            case SEQUENCE -> new BlockIdGenerator(metadata.getAllocationSize(), this::reserveIdBlock);
+            case CUSTOM -> {
+                try {
+                    var constructor = metadata.getIdGeneratorClass().getDeclaredConstructor();
+                    constructor.setAccessible(true);
+                    yield constructor.newInstance();
+                } catch (ReflectiveOperationException e) {
+                    throw new RuntimeException("Failed to create id generator '" + metadata.getIdGeneratorClass().getName() + "': " + e.getMessage(), e);
+                }
+            }
+        };
     }
 
     @Override
     public T save(T entity) {
-        if (primaryKeyField == null) {
+        if (routeToWriter()) {
+            return writeQueue.execute(transaction -> save(entity));
+        }
+        if (metadata.getPrimaryKey() == null) {
             insertWithoutId(entity);
             return entity;
         }
 
-        if (getId(entity) == null) {
+        if (isNew(entity)) {
             insert(entity);
+            track(entity);
         } else {
             update(entity);
         }
+        if (cache != null) {
+            cachePut(metadata.getId(entity), entity);
+        }
         return entity;
     }
 
-    private Long getId(T entity) {
+    @Override
+    public List<T> saveAll(Collection<T> entities) {
+        if (routeToWriter()) {
+            return writeQueue.execute(transaction -> saveAll(entities));
+        }
+        List<T> inserts = new ArrayList<>();
+        List<T> updates = new ArrayList<>();
+        for (T entity : entities) {
+            if (metadata.getPrimaryKey() == null || isNew(entity)) {
+                inserts.add(entity);
+            } else {
+                updates.add(entity);
+            }
+        }
+        List<T> generated = new ArrayList<>();
+        for (T entity : inserts) {
+            if (metadata.getPrimaryKey() != null && metadata.getId(entity) == null) {
+                generated.add(entity);
+            }
+        }
+
         try {
-            return (Long) primaryKeyField.get(entity);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Failed to get ID from entity: " + e.getMessage(), e);
+            if (idGenerator != null) {
+                for (T entity : generated) {
+                    assignNewId(entity);
+                }
+            }
+            inTransaction(connection -> {
+                if (!inserts.isEmpty()) {
+                    insertBatch(connection, inserts);
+                }
+                if (!updates.isEmpty()) {
+                    updateBatch(connection, updates);
+                }
+            });
+        } catch (SQLException e) {
+            clearGeneratedIds(generated);
+            throw translate("save entities", e);
+        } catch (RuntimeException e) {
+            clearGeneratedIds(generated);
+            throw e;
         }
+
+        if (snapshots != null) {
+            for (T entity : entities) {
+                track(entity);
+            }
+        }
+        if (cache != null) {
+            for (T entity : entities) {
+                cachePut(metadata.getId(entity), entity);
+            }
+        }
+        return new ArrayList<>(entities);
     }
 
-    private void insert(T entity) {
-        String tableName = getTableName(entityClass);
+    private void insertBatch(Connection connection, List<T> entities) throws SQLException {
+        List<ColumnMetadata> columns = metadata.getInsertColumns();
 
-        if (!tableExists(tableName)) {
-            createTable(tableName, entity.getClass());
+        if (metadata.getPrimaryKey() == null) {
+            try (PreparedStatement statement = connection.prepareStatement(metadata.getInsertSql())) {
+                executeBatches(statement, columns, entities, null);
+            }
+            return;
+        }
+        if (idGenerator != null) {
+            try (PreparedStatement statement = connection.prepareStatement(metadata.getInsertWithIdSql())) {
+                executeBatches(statement, metadata.getInsertWithIdColumns(), entities, null);
+            }
+            return;
         }
 
-        if (hasUniqueConstraintViolation(entity)) {
-            throw new RuntimeException("Unique constraint violation!");
+        try (PreparedStatement statement = connection.prepareStatement(metadata.getInsertSql(), Statement.RETURN_GENERATED_KEYS)) {
+            if (batchGeneratedKeys) {
+                executeBatches(statement, columns, entities, statement);
+                return;
+            }
+
+            for (T entity : entities) {
+                setParameters(statement, columns, entity);
+                statement.executeUpdate();
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        metadata.setId(entity, generatedKeys.getLong(1));
+                    }
+                }
+            }
         }
+    }
 
-        StringBuilder sql = new StringBuilder("INSERT INTO " + tableName + " (");
+    private void updateBatch(Connection connection, List<T> entities) throws SQLException {
+        Map<Long, List<T>> byShape = new LinkedHashMap<>();
+        for (T entity : entities) {
+            long mask = snapshots.dirtyMask(entity);
+            if (mask != 0) {
+                byShape.computeIfAbsent(mask, m -> new ArrayList<>()).add(entity);
+            }
+        }
 
-        List<Object> values = new ArrayList<>();
-        StringBuilder placeholders = new StringBuilder();
+        for (Map.Entry<Long, List<T>> group : byShape.entrySet()) {
+            UpdateShape shape = metadata.updateShape(group.getKey());
+            List<ColumnMetadata> columns = shape.getColumns();
+            try (PreparedStatement statement = connection.prepareStatement(shape.getSql())) {
+                int pending = 0;
+                for (T entity : group.getValue()) {
+                    setParameters(statement, columns, entity);
+                    statement.setLong(columns.size() + 1, metadata.getId(entity));
+                    statement.addBatch();
+                    if (++pending == batchSize) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        }
+    }
 
-        for (Field field : getFieldsWithoutPrimaryKey(entityClass)) {
-            field.setAccessible(true);
-            try {
-                sql.append(field.getName()).append(", ");
-                values.add(field.get(entity));
-                placeholders.append("?, ");
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException("Failed to access field: " + e.getMessage(), e);
+    private void executeBatches(PreparedStatement statement, List<ColumnMetadata> columns, List<T> entities, Statement keySource) throws SQLException {
+        int start = 0;
+        while (start < entities.size()) {
+            int end = Math.min(start + batchSize, entities.size());
+            for (int i = start; i < end; i++) {
+                setParameters(statement, columns, entities.get(i));
+                statement.addBatch();
             }
+            statement.executeBatch();
+
+            if (keySource != null) {
+                try (ResultSet generatedKeys = keySource.getGeneratedKeys()) {
+                    for (int i = start; i < end && generatedKeys.next(); i++) {
+                        metadata.setId(entities.get(i), generatedKeys.getLong(1));
+                    }
+                }
+            }
+            start = end;
         }
+    }
 
-        sql = new StringBuilder(sql.substring(0, sql.length() - 2) + ") VALUES (" + placeholders.substring(0, placeholders.length() - 2) + ")");
+    private void clearGeneratedIds(List<T> inserts) {
+        for (T entity : inserts) {
+            metadata.setId(entity, null);
+            snapshots.forget(entity);
+        }
+    }
 
-        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
-             PreparedStatement statement = connection.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS)) {
+    @Override
+    public T assignId(T entity) {
+        if (idGenerator == null) {
+            throw new IllegalStateException("Entity '" + entityClass.getSimpleName() + "' uses database-generated ids, which are only known after save");
+        }
+        if (routeToWriter()) {
+            return writeQueue.execute(transaction -> assignId(entity));
+        }
+        if (metadata.getId(entity) == null) {
+            assignNewId(entity);
+        }
+        return entity;
+    }
 
-            setParameters(statement, values);
-            statement.executeUpdate();
+    private boolean isNew(T entity) {
+        return metadata.getId(entity) == null || (idGenerator != null && snapshots.isNew(entity));
+    }
 
-            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    setPrimaryKeyField(entity, generatedKeys.getLong(1));
-                }
+    private void assignNewId(T entity) {
+        metadata.setId(entity, idGenerator.nextId());
+        snapshots.markNew(entity);
+        Transaction transaction = connectionPool.getCurrentTransaction();
+        if (transaction != null) {
+            transaction.onRollback(() -> {
+                metadata.setId(entity, null);
+                snapshots.forget(entity);
+            });
+        }
+    }
+
+    private long reserveIdBlock(int size) {
+        Transaction transaction = connectionPool.getCurrentTransaction();
+        boolean detached = transaction != null && databaseType == DataSourceOptions.DatabaseType.MYSQL;
+        String sequenceName = metadata.getSequenceName();
+        try (Connection connection = detached ? connectionPool.getDetachedConnection() : connectionPool.getConnection()) {
+            if (!sequenceReady) {
+                sequenceTable.ensureSequence(connection, sequenceName, metadata.getTableName(), metadata.getPrimaryKey().getColumnName());
+                sequenceReady = true;
+            }
+            long start = sequenceTable.reserve(connection, sequenceName, size);
+            if (transaction != null && !detached) {
+                transaction.onRollback(() -> {
+                    sequenceReady = false;
+                    ((BlockIdGenerator) idGenerator).discardBlock();
+                });
             }
+            return start;
         } catch (SQLException e) {
-            throw new RuntimeException("Failed to insert entity: " + e.getMessage(), e);
+            throw new RuntimeException("Failed to reserve ids from sequence '" + sequenceName + "': " + e.getMessage(), e);
         }
     }
 
-    private void insertWithoutId(T entity) {
-        String tableName = getTableName(entityClass);
+    @Override
+    public CacheStats getCacheStats() {
+        return cache == null ? null : cache.getStats();
+    }
+
+    @Override
+    public CompletableFuture<T> saveAsync(T entity) {
+        return writeAsync(() -> save(entity));
+    }
+
+    @Override
+    public CompletableFuture<List<T>> saveAllAsync(Collection<T> entities) {
+        return writeAsync(() -> saveAll(entities));
+    }
+
+    @Override
+    public CompletableFuture<T> upsertAsync(T entity, String... conflictColumns) {
+        return writeAsync(() -> upsert(entity, conflictColumns));
+    }
+
+    @Override
+    public CompletableFuture<T> findByIdAsync(Long id) {
+        return readAsync(() -> findById(id));
+    }
+
+    @Override
+    public CompletableFuture<List<T>> findAsync() {
+        return readAsync(this::find);
+    }
 
-        if (!tableExists(tableName)) {
-            createTable(tableName, entity.getClass());
+    @Override
+    public CompletableFuture<List<T>> findOneAsync(Map<String, Object> where) {
+        return readAsync(() -> findOne(where));
+    }
+
+    @Override
+    public CompletableFuture<Page<T>> findPageAsync(PageRequest pageRequest) {
+        return readAsync(() -> findPage(pageRequest));
+    }
+
+    @Override
+    public CompletableFuture<Page<T>> findPageAsync(Map<String, Object> where, PageRequest pageRequest) {
+        return readAsync(() -> findPage(where, pageRequest));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(T entity) {
+        return writeAsync(() -> {
+            delete(entity);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAllAsync(Collection<T> entities) {
+        return writeAsync(() -> {
+            deleteAll(entities);
+            return null;
+        });
+    }
+
+    @Override
+    public T upsert(T entity, String... conflictColumns) {
+        if (routeToWriter()) {
+            return writeQueue.execute(transaction -> upsert(entity, conflictColumns));
+        }
+        List<ColumnMetadata> conflictTarget = new ArrayList<>();
+        for (String column : conflictColumns) {
+            conflictTarget.add(metadata.requireColumn(column));
+        }
+        String sql = upsertSql.computeIfAbsent(List.copyOf(conflictTarget), this::buildUpsertSql);
+        boolean returnsId = metadata.getPrimaryKey() != null;
+        boolean assigned = idGenerator != null && metadata.getId(entity) == null;
+        if (assigned) {
+            assignNewId(entity);
         }
 
-        if (hasUniqueConstraintViolation(entity)) {
-            throw new RuntimeException("Unique constraint violation!");
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = returnsId && databaseType == DataSourceOptions.DatabaseType.MYSQL
+                     ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                     : connection.prepareStatement(sql)) {
+
+            setParameters(statement, idGenerator != null ? metadata.getInsertWithIdColumns() : metadata.getInsertColumns(), entity);
+            if (!returnsId) {
+                statement.executeUpdate();
+            } else if (databaseType == DataSourceOptions.DatabaseType.SQLITE) {
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (resultSet.next()) {
+                        metadata.setId(entity, resultSet.getLong(1));
+                    }
+                }
+            } else {
+                statement.executeUpdate();
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    if (generatedKeys.next() && generatedKeys.getLong(1) > 0) {
+                        metadata.setId(entity, generatedKeys.getLong(1));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            if (assigned) {
+                clearGeneratedIds(List.of(entity));
+            }
+            throw translate("upsert entity", e);
         }
 
-        StringBuilder sql = new StringBuilder("INSERT INTO " + tableName + " (");
+        if (snapshots != null && metadata.getId(entity) != null) {
+            track(entity);
+        }
+        if (cache != null) {
+            cachePut(metadata.getId(entity), entity);
+        }
+        return entity;
+    }
 
-        List<Object> values = new ArrayList<>();
-        StringBuilder placeholders = new StringBuilder();
+    private String buildUpsertSql(List<ColumnMetadata> conflictTarget) {
+        List<String> assignments = new ArrayList<>();
+        ColumnMetadata primaryKey = metadata.getPrimaryKey();
+        String insertSql = idGenerator != null ? metadata.getInsertWithIdSql() : metadata.getInsertSql();
 
-        for (Field field : entityClass.getDeclaredFields()) {
-            field.setAccessible(true);
-            try {
-                sql.append(field.getName()).append(", ");
-                values.add(field.get(entity));
-                placeholders.append("?, ");
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException("Failed to access field: " + e.getMessage(), e);
+        if (databaseType == DataSourceOptions.DatabaseType.SQLITE) {
+            for (ColumnMetadata column : metadata.getInsertColumns()) {
+                if (!conflictTarget.contains(column)) {
+                    assignments.add(column.getColumnName() + " = excluded." + column.getColumnName());
+                }
+            }
+            if (assignments.isEmpty()) {
+                String column = conflictTarget.get(0).getColumnName();
+                assignments.add(column + " = excluded." + column);
             }
+            String target = conflictTarget.isEmpty() ? ""
+                    : "(" + conflictTarget.stream().map(ColumnMetadata::getColumnName).collect(Collectors.joining(", ")) + ")";
+            return insertSql + " ON CONFLICT" + target + " DO UPDATE SET " + String.join(", ", assignments)
+                    + (primaryKey != null ? " RETURNING " + primaryKey.getColumnName() : "");
         }
 
-        sql = new StringBuilder(sql.substring(0, sql.length() - 2) + ") VALUES (" + placeholders.substring(0, placeholders.length() - 2) + ")");
+        for (ColumnMetadata column : metadata.getInsertColumns()) {
+            if (!conflictTarget.contains(column)) {
+                assignments.add(column.getColumnName() + " = VALUES(" + column.getColumnName() + ")");
+            }
+        }
+        if (primaryKey != null) {
+            assignments.add(primaryKey.getColumnName() + " = LAST_INSERT_ID(" + primaryKey.getColumnName() + ")");
+        } else if (assignments.isEmpty()) {
+            String column = metadata.getInsertColumns().get(0).getColumnName();
+            assignments.add(column + " = " + column);
+        }
+        return insertSql + " ON DUPLICATE KEY UPDATE " + String.join(", ", assignments);
+    }
 
-        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
-             PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+    private <R> CompletableFuture<R> readAsync(Supplier<R> work) {
+        return connectionPool.getCurrentTransaction() != null ? runInline(work) : databaseExecutor.submit(work);
+    }
+
+    private <R> CompletableFuture<R> writeAsync(Supplier<R> work) {
+        if (connectionPool.getCurrentTransaction() != null) {
+            return runInline(work);
+        }
+        return writeQueue != null ? writeQueue.submit(transaction -> work.get()) : databaseExecutor.submit(work);
+    }
+
+    private static <R> CompletableFuture<R> runInline(Supplier<R> work) {
+        try {
+            return CompletableFuture.completedFuture(work.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean routeToWriter() {
+        return writeQueue != null && connectionPool.getCurrentTransaction() == null;
+    }
+
+    private void track(T entity) {
+        snapshots.track(entity);
+        Transaction transaction = connectionPool.getCurrentTransaction();
+        if (transaction != null) {
+            transaction.onRollback(() -> snapshots.forget(entity));
+        }
+    }
+
+    private void cachePut(Long id, T entity) {
+        Transaction transaction = connectionPool.getCurrentTransaction();
+        if (transaction == null) {
+            cache.put(id, entity);
+            return;
+        }
+        cache.invalidate(id);
+        T committed = metadata.copy(entity);
+        transaction.onCommit(() -> cache.put(id, committed));
+    }
 
-            setParameters(statement, values);
+    private void cacheEvict(Long id) {
+        cache.invalidate(id);
+        Transaction transaction = connectionPool.getCurrentTransaction();
+        if (transaction != null) {
+            transaction.onCommit(() -> cache.invalidate(id));
+        }
+    }
+
+    private RuntimeException translate(String action, SQLException e) {
+        UniqueConstraintViolationException violation = UniqueConstraintViolationException.from(e, metadata);
+        return violation != null ? violation : new RuntimeException("Failed to " + action + ": " + e.getMessage(), e);
+    }
+
+    private void insert(T entity) {
+        if (idGenerator != null) {
+            insertWithAssignedId(entity);
+            return;
+        }
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = connection.prepareStatement(metadata.getInsertSql(), Statement.RETURN_GENERATED_KEYS)) {
+
+            setParameters(statement, metadata.getInsertColumns(), entity);
             statement.executeUpdate();
+
+            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    metadata.setId(entity, generatedKeys.getLong(1));
+                }
+            }
         } catch (SQLException e) {
-            throw new RuntimeException("Failed to insert entity: " + e.getMessage(), e);
+            throw translate("insert entity", e);
         }
     }
 
-    private void update(T entity) {
-        String tableName = getTableName(entityClass);
+    private void insertWithAssignedId(T entity) {
+        boolean assigned = metadata.getId(entity) == null;
+        if (assigned) {
+            assignNewId(entity);
+        }
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = connection.prepareStatement(metadata.getInsertWithIdSql())) {
 
-        if (hasUniqueConstraintViolation(entity)) {
-            throw new RuntimeException("Unique constraint violation!");
+            setParameters(statement, metadata.getInsertWithIdColumns(), entity);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            if (assigned) {
+                clearGeneratedIds(List.of(entity));
+            }
+            throw translate("insert entity", e);
         }
+    }
 
-        StringBuilder sql = new StringBuilder("UPDATE " + tableName + " SET ");
+    private void insertWithoutId(T entity) {
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = connection.prepareStatement(metadata.getInsertSql())) {
 
-        List<Object> values = new ArrayList<>();
-        for (Field field : getFieldsWithoutPrimaryKey(entityClass)) {
-            field.setAccessible(true);
-            try {
-                sql.append(field.getName()).append(" = ?, ");
-                values.add(field.get(entity));
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException("Failed to access field: " + e.getMessage(), e);
-            }
+            setParameters(statement, metadata.getInsertColumns(), entity);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw translate("insert entity", e);
         }
+    }
 
-        sql = new StringBuilder(sql.substring(0, sql.length() - 2) + " WHERE " + primaryKeyField.getName() + " = ?");
+    private void update(T entity) {
+        long mask = snapshots.dirtyMask(entity);
+        if (mask == 0) {
+            return;
+        }
 
-        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
-             PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+        UpdateShape shape = metadata.updateShape(mask);
+        List<ColumnMetadata> columns = shape.getColumns();
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = connection.prepareStatement(shape.getSql())) {
 
-            setParameters(statement, values);
-            statement.setLong(values.size() + 1, getId(entity));
+            setParameters(statement, columns, entity);
+            statement.setLong(columns.size() + 1, metadata.getId(entity));
             statement.executeUpdate();
         } catch (SQLException e) {
-            throw new RuntimeException("Failed to update entity: " + e.getMessage(), e);
+            throw translate("update entity", e);
         }
+        track(entity);
     }
 
     @Override
     public List<T> findOne(Map<String, Object> where) {
-        String tableName = getTableName(entityClass);
-        String whereClause = buildWhereClause(where);
-        String sql = "SELECT * FROM " + tableName + " " + whereClause;
-
         List<T> results = new ArrayList<>();
-        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
-             PreparedStatement statement = connection.prepareStatement(sql)) {
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = connection.prepareStatement(buildSelectSql(where))) {
 
             setWhereParameters(statement, where);
 
@@ -206,157 +609,440 @@ public class RepositoryImpl<T> implements Repository<T> {
         return results;
     }
 
+    @Override
+    public T findById(Long id) {
+        if (metadata.getPrimaryKey() == null) {
+            throw new RuntimeException("Entity Class '" + entityClass.getSimpleName() + "'에 Primary Key 필드가 없습니다.");
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("id must not be null");
+        }
+        boolean useCache = cache != null && connectionPool.getCurrentTransaction() == null;
+        if (useCache) {
+            T cached = cache.get(id);
+            if (cached != null) {
+                track(cached);
+                return cached;
+            }
+        }
+
+        T entity = null;
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = connection.prepareStatement(metadata.getSelectByIdSql())) {
+            statement.setLong(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    entity = createEntityFromResultSet(resultSet);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find entity: " + e.getMessage(), e);
+        }
+
+        if (entity != null && useCache) {
+            cache.putIfAbsent(id, entity);
+        }
+        return entity;
+    }
+
     @Override
     public List<T> find() {
         return findOne(null);
     }
 
+    @Override
+    public Stream<T> stream() {
+        return stream(null);
+    }
+
+    @Override
+    public Stream<T> stream(Map<String, Object> where) {
+        Connection connection = null;
+        PreparedStatement statement = null;
+        try {
+            connection = connectionPool.getConnection();
+            statement = connection.prepareStatement(buildSelectSql(where), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            setWhereParameters(statement, where);
+
+            ResultSetSpliterator spliterator = new ResultSetSpliterator(connection, statement, statement.executeQuery());
+            return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+        } catch (SQLException e) {
+            closeQuietly(statement);
+            closeQuietly(connection);
+            throw new RuntimeException("Failed to stream entities: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public QueryBuilder<T> query() {
+        return new QueryBuilder<>(metadata, connectionPool, snapshots == null ? entity -> {} : this::track);
+    }
+
+    @Override
+    public Page<T> findPage(PageRequest pageRequest) {
+        return findPage(null, pageRequest);
+    }
+
+    @Override
+    public Page<T> findPage(Map<String, Object> where, PageRequest pageRequest) {
+        int limit = pageRequest.resolveLimit();
+        boolean descending = pageRequest.isDescending();
+        ColumnMetadata primaryKey = metadata.getPrimaryKey();
+        ColumnMetadata sortColumn = resolveSortColumn(pageRequest.getSort());
+        PageCursor cursor = pageRequest.getCursor() == null || pageRequest.getCursor().isEmpty()
+                ? null
+                : PageCursor.decode(pageRequest.getCursor());
+        Integer offset = cursor == null ? pageRequest.getOffset() : null;
+
+        if (offset != null && offset < 0) {
+            throw new IllegalArgumentException("Page offset must not be negative: " + offset);
+        }
+
+        List<String> conditions = buildWhereConditions(where);
+        List<Object> seekValues = new ArrayList<>();
+        String comparison = descending ? " < ?" : " > ?";
+        if (cursor != null) {
+            if (primaryKey == null) {
+                throw new IllegalArgumentException("Cursor pagination requires a primary key on '" + entityClass.getSimpleName() + "'");
+            }
+            if (!cursor.getSort().equals(sortColumn.getColumnName())) {
+                throw new IllegalArgumentException("Page cursor was issued for sort '" + cursor.getSort() + "', not '" + sortColumn.getColumnName() + "'");
+            }
+            if (sortColumn == primaryKey) {
+                conditions.add(primaryKey.getColumnName() + comparison);
+                seekValues.add(cursor.getId());
+            } else {
+                conditions.add(seekCondition(sortColumn, cursor.getValue() == null, descending, comparison));
+                if (cursor.getValue() != null) {
+                    seekValues.add(cursor.getValue());
+                    seekValues.add(cursor.getValue());
+                }
+                seekValues.add(cursor.getId());
+            }
+        }
+
+        String direction = descending ? " DESC" : " ASC";
+        StringBuilder sql = new StringBuilder(metadata.getSelectSql());
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY ").append(sortColumn.getColumnName()).append(direction);
+        if (primaryKey != null && sortColumn != primaryKey) {
+            sql.append(", ").append(primaryKey.getColumnName()).append(direction);
+        }
+        sql.append(offset != null ? " LIMIT ? OFFSET ?" : " LIMIT ?");
+
+        List<T> items = new ArrayList<>(limit + 1);
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+
+            int paramIndex = setWhereParameters(statement, where);
+            for (Object value : seekValues) {
+                statement.setObject(paramIndex++, value);
+            }
+            statement.setInt(paramIndex++, limit + 1);
+            if (offset != null) {
+                statement.setInt(paramIndex, offset);
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    items.add(createEntityFromResultSet(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find page: " + e.getMessage(), e);
+        }
+
+        boolean hasNext = items.size() > limit;
+        if (hasNext) {
+            items.remove(limit);
+        }
+
+        String nextCursor = null;
+        if (hasNext && primaryKey != null) {
+            T last = items.get(items.size() - 1);
+            nextCursor = new PageCursor(sortColumn.getColumnName(), sortColumn.get(last), primaryKey.get(last)).encode();
+        }
+        return new Page<>(items, limit, offset, nextCursor, hasNext);
+    }
+
+    private String seekCondition(ColumnMetadata sortColumn, boolean nullValue, boolean descending, String comparison) {
+        String column = sortColumn.getColumnName();
+        String tieBreak = metadata.getPrimaryKey().getColumnName() + comparison;
+        if (nullValue) {
+            String nullRows = "(" + column + " IS NULL AND " + tieBreak + ")";
+            return descending ? nullRows : "(" + nullRows + " OR " + column + " IS NOT NULL)";
+        }
+        String seek = column + comparison + " OR (" + column + " = ? AND " + tieBreak + ")";
+        return "(" + seek + (descending && sortColumn.isNullable() ? " OR " + column + " IS NULL" : "") + ")";
+    }
+
+    private ColumnMetadata resolveSortColumn(String sort) {
+        if (sort == null || sort.isEmpty()) {
+            if (metadata.getPrimaryKey() == null) {
+                throw new IllegalArgumentException("Entity '" + entityClass.getSimpleName() + "' has no primary key; specify a sort column");
+            }
+            return metadata.getPrimaryKey();
+        }
+        return metadata.requireColumn(sort);
+    }
+
+    private final class ResultSetSpliterator extends Spliterators.AbstractSpliterator<T> {
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private final ResultSet resultSet;
+        private boolean closed = false;
+
+        private ResultSetSpliterator(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.connection = connection;
+            this.statement = statement;
+            this.resultSet = resultSet;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!resultSet.next()) {
+                    close();
+                    return false;
+                }
+                action.accept(metadata.getRowMapper().map(resultSet));
+                return true;
+            } catch (SQLException e) {
+                close();
+                throw new RuntimeException("Failed to stream entities: " + e.getMessage(), e);
+            }
+        }
+
+        private void close() {
+            if (!closed) {
+                closed = true;
+                closeQuietly(resultSet);
+                closeQuietly(statement);
+                closeQuietly(connection);
+            }
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable resource) {
+        if (resource != null) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                System.err.println("Failed to close JDBC resource: " + e.getMessage());
+            }
+        }
+    }
+
     @Override
     public void delete(T entity) {
-        if (primaryKeyField == null) {
+        if (routeToWriter()) {
+            writeQueue.execute(transaction -> {
+                delete(entity);
+                return null;
+            });
+            return;
+        }
+        if (metadata.getPrimaryKey() == null) {
             throw new RuntimeException("Entity Class '" + entityClass.getSimpleName() + "'에 Primary Key 필드가 없습니다.");
         }
 
-        String tableName = getTableName(entityClass);
-        String sql = "DELETE FROM " + tableName + " WHERE " + primaryKeyField.getName() + " = ?";
-        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
-             PreparedStatement statement = connection.prepareStatement(sql)) {
-            statement.setLong(1, getId(entity));
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = connection.prepareStatement(metadata.getDeleteSql())) {
+            statement.setLong(1, metadata.getId(entity));
             statement.executeUpdate();
+            snapshots.forget(entity);
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete entity: " + e.getMessage(), e);
+        } finally {
+            if (cache != null) {
+                cacheEvict(metadata.getId(entity));
+            }
         }
     }
 
     @Override
-    public T create(Object dto) {
-        try {
-            T entity = entityClass.getDeclaredConstructor().newInstance();
-            for (Field dtoField : dto.getClass().getDeclaredFields()) {
-                dtoField.setAccessible(true);
-                for (Field entityField : entityClass.getDeclaredFields()) {
-                    entityField.setAccessible(true);
-                    if (dtoField.getName().equals(entityField.getName()) && dtoField.getType() == entityField.getType()) {
-                        entityField.set(entity, dtoField.get(dto));
-                        break;
-                    }
-                }
-            }
-            return entity;
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to create entity instance: " + e.getMessage(), e);
+    public void deleteAll(Collection<T> entities) {
+        if (routeToWriter()) {
+            writeQueue.execute(transaction -> {
+                deleteAll(entities);
+                return null;
+            });
+            return;
+        }
+        if (metadata.getPrimaryKey() == null) {
+            throw new RuntimeException("Entity Class '" + entityClass.getSimpleName() + "'에 Primary Key 필드가 없습니다.");
+        }
+        if (entities.isEmpty()) {
+            return;
         }
-    }
 
-    private T createEntityFromResultSet(ResultSet resultSet) throws SQLException {
+        List<Long> ids = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            ids.add(metadata.getId(entity));
+        }
+
+        String deletePrefix = "DELETE FROM " + metadata.getTableName() + " WHERE " + metadata.getPrimaryKey().getColumnName() + " IN (";
         try {
-            T entity = entityClass.getDeclaredConstructor().newInstance();
-            Field[] fields = entityClass.getDeclaredFields();
-            for (Field field : fields) {
-                field.setAccessible(true);
-                String fieldName = field.getName();
-                if (field.getType() == Long.class) {
-                    field.set(entity, resultSet.getLong(fieldName));
-                } else {
-                    field.set(entity, resultSet.getObject(fieldName));
+            inTransaction(connection -> {
+                for (int start = 0; start < ids.size(); start += batchSize) {
+                    List<Long> chunk = ids.subList(start, Math.min(start + batchSize, ids.size()));
+                    String sql = deletePrefix + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+                    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                        for (int i = 0; i < chunk.size(); i++) {
+                            statement.setLong(i + 1, chunk.get(i));
+                        }
+                        statement.executeUpdate();
+                    }
                 }
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete entities: " + e.getMessage(), e);
+        } finally {
+            if (cache != null) {
+                ids.forEach(this::cacheEvict);
             }
-            return entity;
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to create entity from ResultSet: " + e.getMessage(), e);
         }
     }
 
-    private void setPrimaryKeyField(T entity, Long id) {
-        try {
-            primaryKeyField.set(entity, id);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Failed to set ID field: " + e.getMessage(), e);
-        }
+    @Override
+    public int deleteWhere(Map<String, Object> where) {
+        return deleteWhere(BulkStatement.matching(where));
     }
 
-    private boolean tableExists(String tableName) {
-        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
-             ResultSet rs = connection.getMetaData().getTables(null, null, tableName, null)) {
-            return rs.next();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to check table existence: " + e.getMessage(), e);
+    @Override
+    public int deleteWhere(Consumer<ConditionGroup> criteria) {
+        BulkStatement bulkStatement = BulkStatement.delete(metadata, criteria);
+        if (routeToWriter()) {
+            return writeQueue.execute(transaction -> executeBulk(bulkStatement, "delete entities"));
         }
+        return executeBulk(bulkStatement, "delete entities");
     }
 
-    private void createTable(String tableName, Class<?> entityClass) {
-        StringBuilder sql = new StringBuilder("CREATE TABLE IF NOT EXISTS " + tableName + " (");
+    @Override
+    public int updateWhere(Map<String, Object> where, Map<String, Object> assignments) {
+        return updateWhere(BulkStatement.matching(where), assignments);
+    }
 
-        Field[] fields = entityClass.getDeclaredFields();
-        for (int i = 0; i < fields.length; i++) {
-            Field field = fields[i];
-            sql.append(field.getName()).append(" ").append(getSqlType(field.getType()));
+    @Override
+    public int updateWhere(Consumer<ConditionGroup> criteria, Map<String, Object> assignments) {
+        BulkStatement bulkStatement = BulkStatement.update(metadata, criteria, assignments);
+        if (routeToWriter()) {
+            return writeQueue.execute(transaction -> executeBulk(bulkStatement, "update entities"));
+        }
+        return executeBulk(bulkStatement, "update entities");
+    }
 
-            if (field.isAnnotationPresent(PrimaryGeneratedColumn.class)) {
-                sql.append(" PRIMARY KEY AUTOINCREMENT");
-            } else if (field.isAnnotationPresent(Column.class)) {
-                Column columnAnnotation = field.getAnnotation(Column.class);
-                if (columnAnnotation.unique()) {
-                    sql.append(" UNIQUE");
+    private int executeBulk(BulkStatement bulkStatement, String action) {
+        int affected;
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = connection.prepareStatement(bulkStatement.getSql())) {
+            List<Object> params = bulkStatement.getParams();
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            affected = statement.executeUpdate();
+        } catch (SQLException e) {
+            throw translate(action, e);
+        } finally {
+            if (cache != null) {
+                cache.invalidateAll();
+                Transaction transaction = connectionPool.getCurrentTransaction();
+                if (transaction != null) {
+                    transaction.onCommit(cache::invalidateAll);
                 }
             }
+            if (snapshots != null && bulkStatement.isUpdate()) {
+                snapshots.clear();
+            }
+        }
+        return affected;
+    }
 
-            if (i < fields.length - 1) {
-                sql.append(", ");
+    @Override
+    public T create(Object dto) {
+        try {
+            T entity = metadata.newInstance();
+            for (Field dtoField : dto.getClass().getDeclaredFields()) {
+                ColumnMetadata column = metadata.getColumnsByProperty().get(dtoField.getName());
+                if (column != null && dtoField.getType() == column.getJavaType()) {
+                    dtoField.setAccessible(true);
+                    column.set(entity, dtoField.get(dto));
+                }
             }
+            return entity;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create entity instance: " + e.getMessage(), e);
         }
-        sql.append(")");
+    }
 
-        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
-             Statement statement = connection.createStatement()) {
-            statement.execute(sql.toString());
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to create table: " + e.getMessage(), e);
+    private T createEntityFromResultSet(ResultSet resultSet) throws SQLException {
+        T entity = metadata.getRowMapper().map(resultSet);
+        if (snapshots != null) {
+            track(entity);
         }
+        return entity;
     }
 
-    private String getSqlType(Class<?> type) {
-        if (type == String.class) {
-            return "TEXT";
-        } else if (type == int.class || type == Integer.class || type == long.class || type == Long.class) {
-            return "INTEGER";
-        } else if (type == float.class || type == Float.class || type == double.class || type == Double.class) {
-            return "REAL";
-        } else {
-            throw new IllegalArgumentException("Unsupported field type: " + type.getName());
+    private void inTransaction(TransactionWork work) throws SQLException {
+        try (Connection connection = connectionPool.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                work.execute(connection);
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
         }
     }
 
+    private interface TransactionWork {
+        void execute(Connection connection) throws SQLException;
+    }
+
+    private String buildSelectSql(Map<String, Object> where) {
+        return where == null || where.isEmpty()
+                ? metadata.getSelectSql()
+                : metadata.getSelectSql() + " " + buildWhereClause(where);
+    }
+
     private String buildWhereClause(Map<String, Object> where) {
-        if (where == null || where.isEmpty()) {
-            return "";
-        }
+        return "WHERE " + String.join(" AND ", buildWhereConditions(where));
+    }
 
+    private List<String> buildWhereConditions(Map<String, Object> where) {
         List<String> conditions = new ArrayList<>();
+        if (where == null) {
+            return conditions;
+        }
         for (Map.Entry<String, Object> entry : where.entrySet()) {
-            String key = entry.getKey();
+            String column = metadata.resolveColumnName(entry.getKey());
             Object value = entry.getValue();
 
             if (value instanceof Collection) {
                 Collection<?> values = (Collection<?>) value;
                 if (!values.isEmpty()) {
-                    List<String> placeholders = new ArrayList<>();
-                    for (Object v : values) {
-                        placeholders.add("?");
-                    }
-                    conditions.add(key + " IN (" + String.join(", ", placeholders) + ")");
+                    conditions.add(column + " IN (" + String.join(", ", Collections.nCopies(values.size(), "?")) + ")");
                 }
             } else {
-                conditions.add(key + " = ?");
+                conditions.add(column + " = ?");
             }
         }
-
-        return "WHERE " + String.join(" AND ", conditions);
+        return conditions;
     }
 
-    private void setWhereParameters(PreparedStatement statement, Map<String, Object> where) throws SQLException {
+    private int setWhereParameters(PreparedStatement statement, Map<String, Object> where) throws SQLException {
+        int paramIndex = 1;
         if (where != null) {
-            int paramIndex = 1;
             for (Object value : where.values()) {
                 if (value instanceof Collection) {
                     for (Object v : (Collection<?>) value) {
@@ -367,71 +1053,13 @@ public class RepositoryImpl<T> implements Repository<T> {
                 }
             }
         }
+        return paramIndex;
     }
 
-    private String getTableName(Class<?> entityClass) {
-        return entityClass.getSimpleName().toLowerCase() + "s";
-    }
-
-    private List<Field> getFieldsWithoutPrimaryKey(Class<?> clazz) {
-        List<Field> fields = new ArrayList<>();
-        for (Field field : clazz.getDeclaredFields()) {
-            if (!field.isAnnotationPresent(PrimaryGeneratedColumn.class)) {
-                fields.add(field);
-            }
+    private void setParameters(PreparedStatement statement, List<ColumnMetadata> columns, T entity) throws SQLException {
+        for (int i = 0; i < columns.size(); i++) {
+            statement.setObject(i + 1, columns.get(i).get(entity));
         }
-        return fields;
     }
 
-    private void setParameters(PreparedStatement statement, List<Object> values) throws SQLException {
-        for (int i = 0; i < values.size(); i++) {
-            statement.setObject(i + 1, values.get(i));
-        }
-    }
-
-    private boolean hasUniqueConstraintViolation(T entity) {
-        for (Field field : entity.getClass().getDeclaredFields()) {
-            if (field.isAnnotationPresent(Column.class)) {
-                Column columnAnnotation = field.getAnnotation(Column.class);
-                if (columnAnnotation.unique()) {
-                    try {
-                        field.setAccessible(true);
-                        Object fieldValue = field.get(entity);
-                        if (fieldValue != null && !isUniqueValue(getTableName(entityClass), field.getName(), fieldValue, getId(entity))) {
-                            return true;
-                        }
-                    } catch (IllegalAccessException e) {
-                        throw new RuntimeException("Failed to access field: " + e.getMessage(), e);
-                    }
-                }
-            }
-        }
-        return false;
-    }
-
-    private boolean isUniqueValue(String tableName, String columnName, Object value, Long id) {
-        String sql;
-        if (primaryKeyField != null) {
-            sql = "SELECT COUNT(*) FROM " + tableName + " WHERE " + columnName + " = ? AND " + primaryKeyField.getName() + " != ?";
-        } else {
-            sql = "SELECT COUNT(*) FROM " + tableName + " WHERE " + columnName + " = ?";
-        }
-
-        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
-             PreparedStatement statement = connection.prepareStatement(sql)) {
-
-            statement.setObject(1, value);
-            if (primaryKeyField != null) {
-                statement.setLong(2, id == null ? -1 : id);
-            }
-
-            try (ResultSet resultSet = statement.executeQuery()) {
-                resultSet.next();
-                int count = resultSet.getInt(1);
-                return count == 0;
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to check unique constraint: " + e.getMessage(), e);
-        }
-    }
-}
\ No newline at end of file
+}
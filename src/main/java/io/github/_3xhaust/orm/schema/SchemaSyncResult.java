@@ -0,0 +1,38 @@
+package io.github._3xhaust.orm.schema;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class SchemaSyncResult {
+    public enum Status {
+        CREATED, VERIFIED, MISMATCH
+    }
+
+    private final Class<?> entityClass;
+    private final String tableName;
+    private final Status status;
+    private final List<String> missingColumns;
+    private final List<String> createdIndexes;
+    private final List<String> verifiedIndexes;
+    private final long elapsedMillis;
+
+    @Override
+    public String toString() {
+        String summary = switch (status) {
+            case CREATED -> tableName + " created in " + elapsedMillis + "ms";
+            case VERIFIED -> tableName + " verified in " + elapsedMillis + "ms";
+            case MISMATCH -> tableName + " is missing columns " + missingColumns;
+        };
+        if (!createdIndexes.isEmpty()) {
+            summary += ", created indexes " + createdIndexes;
+        }
+        if (!verifiedIndexes.isEmpty()) {
+            summary += ", verified indexes " + verifiedIndexes;
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,155 @@
+package io.github._3xhaust.orm.schema;
+
+import io.github._3xhaust.orm.metadata.ColumnMetadata;
+import io.github._3xhaust.orm.metadata.EntityMetadata;
+import io.github._3xhaust.orm.metadata.IndexMetadata;
+import io.github._3xhaust.orm.pool.ConnectionPool;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class SchemaSynchronizer {
+    private final ConnectionPool connectionPool;
+    private final boolean logging;
+    private final Map<Class<?>, SchemaSyncResult> results = new ConcurrentHashMap<>();
+
+    public SchemaSynchronizer(ConnectionPool connectionPool, boolean logging) {
+        this.connectionPool = connectionPool;
+        this.logging = logging;
+    }
+
+    public Map<Class<?>, SchemaSyncResult> getResults() {
+        return Collections.unmodifiableMap(results);
+    }
+
+    public boolean isSynchronized(Class<?> entityClass) {
+        return results.containsKey(entityClass);
+    }
+
+    public void synchronize(Collection<EntityMetadata<?>> entities, boolean parallel) {
+        List<EntityMetadata<?>> pending = entities.stream()
+                .filter(metadata -> !results.containsKey(metadata.getEntityClass()))
+                .toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        if (!parallel || pending.size() == 1) {
+            for (EntityMetadata<?> metadata : pending) {
+                record(synchronize(metadata));
+            }
+            return;
+        }
+
+        int threads = Math.min(pending.size(), connectionPool.getMetrics().getMaxConnections());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<SchemaSyncResult>> futures = new ArrayList<>();
+            for (EntityMetadata<?> metadata : pending) {
+                futures.add(executor.submit(() -> synchronize(metadata)));
+            }
+
+            List<String> failures = new ArrayList<>();
+            for (Future<SchemaSyncResult> future : futures) {
+                try {
+                    record(future.get());
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause().getMessage());
+                }
+            }
+            if (!failures.isEmpty()) {
+                throw new RuntimeException("Schema synchronization failed: " + String.join("; ", failures));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Schema synchronization was interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SchemaSyncResult synchronize(EntityMetadata<?> metadata) {
+        long startTime = System.currentTimeMillis();
+        String tableName = metadata.getTableName();
+
+        try (Connection connection = connectionPool.getConnection()) {
+            DatabaseMetaData databaseMetaData = connection.getMetaData();
+            SchemaSyncResult.Status status;
+            List<String> missingColumns = new ArrayList<>();
+
+            if (!tableExists(databaseMetaData, tableName)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(metadata.getCreateTableSql());
+                }
+                status = SchemaSyncResult.Status.CREATED;
+            } else {
+                Set<String> existingColumns = new HashSet<>();
+                try (ResultSet rs = databaseMetaData.getColumns(null, null, tableName, null)) {
+                    while (rs.next()) {
+                        existingColumns.add(rs.getString("COLUMN_NAME").toLowerCase());
+                    }
+                }
+                for (ColumnMetadata column : metadata.getColumns()) {
+                    if (!existingColumns.contains(column.getColumnName().toLowerCase())) {
+                        missingColumns.add(column.getColumnName());
+                    }
+                }
+                status = missingColumns.isEmpty() ? SchemaSyncResult.Status.VERIFIED : SchemaSyncResult.Status.MISMATCH;
+            }
+
+            List<String> createdIndexes = new ArrayList<>();
+            List<String> verifiedIndexes = new ArrayList<>();
+            if (!metadata.getIndexes().isEmpty()) {
+                Set<String> existingIndexes = existingIndexes(databaseMetaData, tableName);
+                for (IndexMetadata index : metadata.getIndexes()) {
+                    if (existingIndexes.contains(index.getName().toLowerCase())) {
+                        verifiedIndexes.add(index.getName());
+                    } else if (Collections.disjoint(index.getColumnNames(), missingColumns)) {
+                        try (Statement statement = connection.createStatement()) {
+                            statement.execute(index.getCreateSql());
+                        }
+                        createdIndexes.add(index.getName());
+                    }
+                }
+            }
+
+            return new SchemaSyncResult(metadata.getEntityClass(), tableName, status, List.copyOf(missingColumns),
+                    List.copyOf(createdIndexes), List.copyOf(verifiedIndexes), System.currentTimeMillis() - startTime);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to synchronize table '" + tableName + "': " + e.getMessage(), e);
+        }
+    }
+
+    private Set<String> existingIndexes(DatabaseMetaData databaseMetaData, String tableName) throws SQLException {
+        Set<String> indexes = new HashSet<>();
+        try (ResultSet rs = databaseMetaData.getIndexInfo(null, null, tableName, false, false)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                if (indexName != null) {
+                    indexes.add(indexName.toLowerCase());
+                }
+            }
+        }
+        return indexes;
+    }
+
+    private boolean tableExists(DatabaseMetaData databaseMetaData, String tableName) throws SQLException {
+        try (ResultSet rs = databaseMetaData.getTables(null, null, tableName, null)) {
+            return rs.next();
+        }
+    }
+
+    private void record(SchemaSyncResult result) {
+        results.put(result.getEntityClass(), result);
+        if (result.getStatus() == SchemaSyncResult.Status.MISMATCH) {
+            System.err.println("Schema mismatch: " + result);
+        } else if (logging) {
+            System.out.println("Schema: " + result);
+        }
+    }
+}
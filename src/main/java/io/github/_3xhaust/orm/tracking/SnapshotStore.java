@@ -0,0 +1,111 @@
+package io.github._3xhaust.orm.tracking;
+
+import io.github._3xhaust.orm.metadata.ColumnMetadata;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class SnapshotStore<T> {
+    private static final Object[] NEW = new Object[0];
+
+    private final List<ColumnMetadata> columns;
+    private final long fullMask;
+    private final Map<IdentityKey, Object[]> snapshots = new HashMap<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    public SnapshotStore(List<ColumnMetadata> columns, long fullMask) {
+        this.columns = columns;
+        this.fullMask = fullMask;
+    }
+
+    public void track(T entity) {
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = columns.get(i).get(entity);
+        }
+        synchronized (this) {
+            expungeCollected();
+            snapshots.put(new IdentityKey(entity, collected), values);
+        }
+    }
+
+    public void markNew(T entity) {
+        synchronized (this) {
+            expungeCollected();
+            snapshots.put(new IdentityKey(entity, collected), NEW);
+        }
+    }
+
+    public synchronized boolean isNew(T entity) {
+        return snapshots.get(new IdentityKey(entity, null)) == NEW;
+    }
+
+    public synchronized void forget(T entity) {
+        snapshots.remove(new IdentityKey(entity, null));
+    }
+
+    public synchronized void clear() {
+        snapshots.clear();
+    }
+
+    public long dirtyMask(T entity) {
+        Object[] snapshot;
+        synchronized (this) {
+            snapshot = snapshots.get(new IdentityKey(entity, null));
+        }
+        if (snapshot == null || snapshot == NEW || columns.size() > 64) {
+            return fullMask;
+        }
+
+        long mask = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            if (!Objects.equals(snapshot[i], columns.get(i).get(entity))) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    public synchronized int size() {
+        expungeCollected();
+        return snapshots.size();
+    }
+
+    private void expungeCollected() {
+        Reference<?> reference;
+        while ((reference = collected.poll()) != null) {
+            snapshots.remove(reference);
+        }
+    }
+
+    private static final class IdentityKey extends WeakReference<Object> {
+        private final int hash;
+
+        private IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey key)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == key.get();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.github._3xhaust.orm.transaction;
+
+import io.github._3xhaust.orm.repository.Repository;
+import io.github._3xhaust.orm.repository.RepositoryFactory;
+import lombok.Getter;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Transaction {
+    private final Connection connection;
+    private final RepositoryFactory repositoryFactory;
+    private final Connection sharedConnection;
+    private final List<Runnable> rollbackActions = new ArrayList<>();
+    private final List<Runnable> commitActions = new ArrayList<>();
+    @Getter
+    private boolean rollbackOnly = false;
+
+    Transaction(Connection connection, RepositoryFactory repositoryFactory) {
+        this.connection = connection;
+        this.repositoryFactory = repositoryFactory;
+        this.sharedConnection = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new SharedConnectionHandler()
+        );
+    }
+
+    public <T> Repository<T> getRepository(Class<T> entityClass) {
+        return repositoryFactory.getRepository(entityClass);
+    }
+
+    public void setRollbackOnly() {
+        this.rollbackOnly = true;
+    }
+
+    public void onRollback(Runnable action) {
+        rollbackActions.add(action);
+    }
+
+    public void onCommit(Runnable action) {
+        commitActions.add(action);
+    }
+
+    public Connection getSharedConnection() {
+        return sharedConnection;
+    }
+
+    Connection getConnection() {
+        return connection;
+    }
+
+    void runRollbackActions() {
+        for (Runnable action : rollbackActions) {
+            action.run();
+        }
+    }
+
+    void runCommitActions() {
+        for (Runnable action : commitActions) {
+            action.run();
+        }
+    }
+
+    Mark mark() {
+        return new Mark(rollbackActions.size(), commitActions.size());
+    }
+
+    void rollbackTo(Mark mark) {
+        List<Runnable> undone = rollbackActions.subList(mark.rollbackActions(), rollbackActions.size());
+        for (Runnable action : undone) {
+            action.run();
+        }
+        undone.clear();
+        commitActions.subList(mark.commitActions(), commitActions.size()).clear();
+        rollbackOnly = false;
+    }
+
+    record Mark(int rollbackActions, int commitActions) {
+    }
+
+    private final class SharedConnectionHandler implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close", "commit", "setAutoCommit" -> {
+                    return null;
+                }
+                case "rollback" -> {
+                    if (args == null) {
+                        rollbackOnly = true;
+                        return null;
+                    }
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+            }
+
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
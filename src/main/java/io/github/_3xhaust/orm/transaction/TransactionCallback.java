@@ -0,0 +1,6 @@
+package io.github._3xhaust.orm.transaction;
+
+@FunctionalInterface
+public interface TransactionCallback<R> {
+    R execute(Transaction transaction) throws Exception;
+}
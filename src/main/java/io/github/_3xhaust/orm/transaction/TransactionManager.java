@@ -0,0 +1,76 @@
+package io.github._3xhaust.orm.transaction;
+
+import io.github._3xhaust.orm.exceptions.UnexpectedRollbackException;
+import io.github._3xhaust.orm.pool.ConnectionPool;
+import io.github._3xhaust.orm.repository.RepositoryFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class TransactionManager {
+    private final ConnectionPool connectionPool;
+    private final RepositoryFactory repositoryFactory;
+    private final WriteQueue writeQueue;
+
+    public TransactionManager(ConnectionPool connectionPool, RepositoryFactory repositoryFactory, WriteQueue writeQueue) {
+        this.connectionPool = connectionPool;
+        this.repositoryFactory = repositoryFactory;
+        this.writeQueue = writeQueue;
+    }
+
+    public <R> R execute(TransactionCallback<R> callback) {
+        Transaction current = connectionPool.getCurrentTransaction();
+        if (current != null) {
+            try {
+                return callback.execute(current);
+            } catch (Exception e) {
+                current.setRollbackOnly();
+                throw propagate(e);
+            }
+        }
+        if (writeQueue != null) {
+            return writeQueue.execute(callback);
+        }
+
+        try (Connection connection = connectionPool.getConnection()) {
+            connection.setAutoCommit(false);
+            Transaction transaction = new Transaction(connection, repositoryFactory);
+            connectionPool.bindTransaction(transaction);
+            try {
+                R result = callback.execute(transaction);
+                if (transaction.isRollbackOnly()) {
+                    throw new UnexpectedRollbackException();
+                }
+                connection.commit();
+                transaction.runCommitActions();
+                return result;
+            } catch (Exception e) {
+                rollback(transaction);
+                throw propagate(e);
+            } finally {
+                connectionPool.unbindTransaction();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Transaction failed: " + e.getMessage(), e);
+        }
+    }
+
+    private void rollback(Transaction transaction) throws SQLException {
+        try {
+            transaction.getConnection().rollback();
+        } finally {
+            transaction.runRollbackActions();
+        }
+    }
+
+    static RuntimeException propagate(Throwable e) {
+        if (e instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (e instanceof Error error) {
+            throw error;
+        }
+        return new RuntimeException("Transaction failed: " + e.getMessage(), e);
+    }
+}
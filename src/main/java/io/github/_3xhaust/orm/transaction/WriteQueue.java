@@ -0,0 +1,186 @@
+package io.github._3xhaust.orm.transaction;
+
+import io.github._3xhaust.orm.exceptions.UnexpectedRollbackException;
+import io.github._3xhaust.orm.pool.ConnectionPool;
+import io.github._3xhaust.orm.repository.RepositoryFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class WriteQueue implements AutoCloseable {
+    private final ConnectionPool writerPool;
+    private final ConnectionPool readerPool;
+    private final RepositoryFactory repositoryFactory;
+    private final int maxBatchSize;
+    private final LinkedBlockingQueue<WriteTask<?>> queue;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    private final LongAdder completedWrites = new LongAdder();
+    private final LongAdder failedWrites = new LongAdder();
+    private final LongAdder commits = new LongAdder();
+
+    public WriteQueue(ConnectionPool writerPool, ConnectionPool readerPool, RepositoryFactory repositoryFactory, int maxBatchSize, int capacity) {
+        this.writerPool = writerPool;
+        this.readerPool = readerPool;
+        this.repositoryFactory = repositoryFactory;
+        this.maxBatchSize = maxBatchSize;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.writerThread = new Thread(this::run, "avnoi-sqlite-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    public <R> CompletableFuture<R> submit(TransactionCallback<R> work) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Write queue is closed"));
+        }
+        if (Thread.currentThread() == writerThread) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Write submitted from inside a queued write would wait on itself"));
+        }
+        WriteTask<R> task = new WriteTask<>(work);
+        if (!queue.offer(task)) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Write queue is full (" + queue.size() + " pending writes)"));
+        }
+        return task.future;
+    }
+
+    public <R> R execute(TransactionCallback<R> work) {
+        try {
+            return submit(work).join();
+        } catch (CompletionException e) {
+            throw TransactionManager.propagate(e.getCause());
+        }
+    }
+
+    public WriteQueueMetrics getMetrics() {
+        return new WriteQueueMetrics(queue.size(), completedWrites.sum(), failedWrites.sum(), commits.sum(), maxBatchSize);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        writerThread.interrupt();
+    }
+
+    private void run() {
+        List<WriteTask<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                WriteTask<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                commitBatch(batch);
+            } catch (InterruptedException e) {
+                if (running) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commitBatch(List<WriteTask<?>> batch) {
+        Transaction transaction = null;
+
+        try (Connection connection = writerPool.getConnection()) {
+            connection.setAutoCommit(false);
+            transaction = new Transaction(connection, repositoryFactory);
+            readerPool.bindTransaction(transaction);
+            try {
+                for (WriteTask<?> task : batch) {
+                    runInSavepoint(connection, transaction, task);
+                }
+                connection.commit();
+                commits.increment();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                readerPool.unbindTransaction();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException | RuntimeException e) {
+            if (transaction != null) {
+                transaction.runRollbackActions();
+            }
+            for (WriteTask<?> task : batch) {
+                if (task.failure == null) {
+                    task.failure = e;
+                    failedWrites.increment();
+                }
+            }
+            finish(batch);
+            return;
+        }
+
+        transaction.runCommitActions();
+        for (WriteTask<?> task : batch) {
+            if (task.failure == null) {
+                completedWrites.increment();
+            }
+        }
+        finish(batch);
+    }
+
+    private void runInSavepoint(Connection connection, Transaction transaction, WriteTask<?> task) throws SQLException {
+        Savepoint savepoint = connection.setSavepoint();
+        Transaction.Mark mark = transaction.mark();
+        try {
+            task.run(transaction);
+            if (transaction.isRollbackOnly()) {
+                throw new UnexpectedRollbackException();
+            }
+        } catch (Throwable e) {
+            connection.rollback(savepoint);
+            transaction.rollbackTo(mark);
+            failedWrites.increment();
+            task.failure = e;
+            return;
+        }
+
+        connection.releaseSavepoint(savepoint);
+    }
+
+    private void finish(List<WriteTask<?>> batch) {
+        List<WriteTask<?>> finished = List.copyOf(batch);
+        CompletableFuture.runAsync(() -> finished.forEach(WriteTask::finish));
+    }
+
+    private static final class WriteTask<R> {
+        private final TransactionCallback<R> work;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+        private R result;
+        private Throwable failure;
+
+        private WriteTask(TransactionCallback<R> work) {
+            this.work = work;
+        }
+
+        private void run(Transaction transaction) throws Exception {
+            result = work.execute(transaction);
+        }
+
+        private void finish() {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(result);
+            }
+        }
+    }
+}
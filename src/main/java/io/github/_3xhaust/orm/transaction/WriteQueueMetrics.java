@@ -0,0 +1,24 @@
+package io.github._3xhaust.orm.transaction;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class WriteQueueMetrics {
+    private final int queuedWrites;
+    private final long completedWrites;
+    private final long failedWrites;
+    private final long commits;
+    private final int maxBatchSize;
+
+    public double getAverageBatchSize() {
+        return commits == 0 ? 0 : (double) (completedWrites + failedWrites) / commits;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("write-queue[queued=%d, completed=%d, failed=%d, commits=%d, avgBatch=%.1f/%d]",
+                queuedWrites, completedWrites, failedWrites, commits, getAverageBatchSize(), maxBatchSize);
+    }
+}
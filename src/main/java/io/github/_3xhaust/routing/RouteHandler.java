@@ -1,13 +1,57 @@
 package io.github._3xhaust.routing;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github._3xhaust.annotations.http.Header;
+import io.github._3xhaust.binding.BindingPlan;
+import io.github._3xhaust.orm.annotations.Transactional;
+import io.github._3xhaust.serialization.JsonCodec;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
 
 @Getter
-@RequiredArgsConstructor
 public class RouteHandler {
     private final Method handlerMethod;
     private final int statusCode;
-}
\ No newline at end of file
+    private final String[] paramNames;
+    private final RouteInvoker invoker;
+    private final BindingPlan bindingPlan;
+    private final ObjectWriter responseWriter;
+    private final Header[] headers;
+    private final boolean redirect;
+    private final String redirectUrl;
+    private final int redirectStatusCode;
+    private final boolean transactional;
+
+    public RouteHandler(Method handlerMethod, Object controller, int statusCode, String[] paramNames) {
+        this.handlerMethod = handlerMethod;
+        this.statusCode = statusCode;
+        this.paramNames = paramNames;
+        this.invoker = RouteInvoker.of(handlerMethod, controller);
+        this.bindingPlan = BindingPlan.compile(handlerMethod, paramNames);
+        this.responseWriter = JsonCodec.shared().writerForReturnType(handlerMethod.getGenericReturnType());
+        this.headers = handlerMethod.getAnnotationsByType(Header.class);
+
+        io.github._3xhaust.annotations.Redirect redirectAnnotation = handlerMethod.getAnnotation(io.github._3xhaust.annotations.Redirect.class);
+        this.redirect = redirectAnnotation != null;
+        this.redirectUrl = redirectAnnotation != null ? redirectAnnotation.url() : null;
+        this.redirectStatusCode = redirectAnnotation != null ? redirectAnnotation.statusCode() : 0;
+        this.transactional = handlerMethod.isAnnotationPresent(Transactional.class);
+        if (transactional && (Future.class.isAssignableFrom(handlerMethod.getReturnType())
+                || CompletionStage.class.isAssignableFrom(handlerMethod.getReturnType()))) {
+            throw new IllegalArgumentException("@Transactional route " + handlerMethod.getDeclaringClass().getSimpleName() + "."
+                    + handlerMethod.getName() + " must not return a future");
+        }
+    }
+
+    public int getParamIndex(String name) {
+        for (int i = 0; i < paramNames.length; i++) {
+            if (paramNames[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,44 @@
+package io.github._3xhaust.routing;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+
+@FunctionalInterface
+public interface RouteInvoker {
+    Object invoke(Object[] arguments) throws Exception;
+
+    static RouteInvoker of(Method method, Object target) {
+        if (target == null && !Modifier.isStatic(method.getModifiers())) {
+            throw new IllegalStateException("Controller instance not found in applicationContext: " + method.getDeclaringClass().getName());
+        }
+
+        MethodHandle handle;
+        try {
+            method.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Cannot create invoker for " + method.getDeclaringClass().getName() + "." + method.getName() + ": " + e.getMessage(), e);
+        }
+
+        if (!Modifier.isStatic(method.getModifiers())) {
+            handle = handle.bindTo(target);
+        }
+        MethodHandle invoker = handle
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+
+        return arguments -> {
+            try {
+                return (Object) invoker.invokeExact(arguments);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new UndeclaredThrowableException(t);
+            }
+        };
+    }
+}
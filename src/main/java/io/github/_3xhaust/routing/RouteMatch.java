@@ -0,0 +1,25 @@
+package io.github._3xhaust.routing;
+
+import lombok.Getter;
+
+@Getter
+public class RouteMatch {
+    private static final String[] NO_VALUES = new String[0];
+
+    private final RouteHandler handler;
+    private final String[] values;
+
+    RouteMatch(RouteHandler handler, String[] values) {
+        this.handler = handler;
+        this.values = values;
+    }
+
+    RouteMatch(RouteHandler handler) {
+        this(handler, NO_VALUES);
+    }
+
+    public String getParam(String name) {
+        int index = handler.getParamIndex(name);
+        return index >= 0 && index < values.length ? values[index] : null;
+    }
+}
@@ -1,102 +1,207 @@
 package io.github._3xhaust.routing;
 
 import io.github._3xhaust.http.HttpMethod;
-import lombok.Getter;
-import lombok.Setter;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class Router {
     private final TrieNode root = new TrieNode();
-
-    public void registerRoute(HttpMethod method, String path, Method handler, int statusCode) {
-        String[] parts = path.split("/");
-        registerRouteRecursive(method, parts, 0, root, handler, statusCode);
-    }
-
-    private void registerRouteRecursive(HttpMethod method, String[] parts, int index, TrieNode node, Method handler, int statusCode) {
-        if (index == parts.length) {
-            node.getHandlers().put(method, new RouteHandler(handler, statusCode));
-            return;
+    private final Map<String, Map<HttpMethod, RouteMatch>> staticRoutes = new HashMap<>();
+    private int maxParamCount;
+
+    public void registerRoute(HttpMethod method, String path, Object controller, Method handler, int statusCode) {
+        List<String> paramNames = new ArrayList<>();
+        TrieNode node = root;
+        boolean isStatic = true;
+
+        for (String segment : segments(path)) {
+            String paramName = paramName(segment);
+            if (paramName != null) {
+                if (node.paramChild == null) {
+                    node.paramChild = new TrieNode();
+                }
+                node = node.paramChild;
+                paramNames.add(paramName);
+                isStatic = false;
+            } else if (segment.equals("*")) {
+                if (node.wildcardChild == null) {
+                    node.wildcardChild = new TrieNode();
+                }
+                node = node.wildcardChild;
+                isStatic = false;
+            } else if (segment.indexOf('*') >= 0) {
+                node = node.patternChild(segment);
+                isStatic = false;
+            } else {
+                node = node.children.computeIfAbsent(segment, k -> new TrieNode());
+            }
         }
 
-        String part = parts[index];
-
-        if (part.equals("*")) {
-            node.getChildren().computeIfAbsent("*", k -> new TrieNode());
-            registerRouteRecursive(method, parts, index + 1, node.getChildren().get("*"), handler, statusCode);
-        } else {
-            TrieNode nextNode = node.getChildren().computeIfAbsent(part, k -> new TrieNode());
-            registerRouteRecursive(method, parts, index + 1, nextNode, handler, statusCode);
+        RouteHandler routeHandler = new RouteHandler(handler, controller, statusCode, paramNames.toArray(new String[0]));
+        node.handlers.put(method, routeHandler);
+        maxParamCount = Math.max(maxParamCount, paramNames.size());
+        if (isStatic) {
+            staticRoutes.computeIfAbsent(normalize(path), k -> new EnumMap<>(HttpMethod.class)).put(method, new RouteMatch(routeHandler));
         }
     }
 
     public void registerRedirect(HttpMethod method, String path, String redirectPath, int statusCode) {
-        String[] parts = path.split("/");
         TrieNode current = root;
 
-        for (String part : parts) {
-            if (part.isEmpty()) continue;
-            current = current.getChildren().computeIfAbsent(part, k -> new TrieNode());
+        for (String segment : segments(path)) {
+            current = current.children.computeIfAbsent(segment, k -> new TrieNode());
         }
 
-        current.getRedirects().put(method, new Redirect(redirectPath, statusCode));
+        current.redirects.put(method, new Redirect(redirectPath, statusCode));
     }
 
     public RouteHandler findHandler(HttpMethod method, String path) {
-        String[] parts = path.split("/");
-        return findHandlerRecursive(method, parts, 0, root);
+        RouteMatch match = match(method, path);
+        return match != null ? match.getHandler() : null;
     }
 
-    private RouteHandler findHandlerRecursive(HttpMethod method, String[] parts, int index, TrieNode node) {
-        if (node == null) {
+    public RouteMatch match(HttpMethod method, String path) {
+        Map<HttpMethod, RouteMatch> staticMatches = staticRoutes.get(path);
+        if (staticMatches != null) {
+            RouteMatch match = staticMatches.get(method);
+            if (match != null) {
+                return match;
+            }
+        }
+
+        String[] captures = maxParamCount == 0 ? null : new String[maxParamCount];
+        RouteHandler handler = findHandler(root, method, path, 0, captures, 0);
+        if (handler == null) {
             return null;
         }
+        if (handler.getParamNames().length == 0) {
+            return new RouteMatch(handler);
+        }
+        String[] values = new String[handler.getParamNames().length];
+        System.arraycopy(captures, 0, values, 0, values.length);
+        return new RouteMatch(handler, values);
+    }
 
-        if (index == parts.length) {
-            return node.getHandlers().get(method);
+    private RouteHandler findHandler(TrieNode node, HttpMethod method, String path, int from, String[] captures, int captureCount) {
+        int start = skipSlashes(path, from);
+        if (start == path.length()) {
+            return node.handlers.get(method);
         }
 
-        String part = parts[index];
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
 
-        for (Map.Entry<String, TrieNode> entry : node.getChildren().entrySet()) {
-            String key = entry.getKey();
-            TrieNode childNode = entry.getValue();
+        if (!node.children.isEmpty()) {
+            TrieNode child = node.children.get(path.substring(start, end));
+            if (child != null) {
+                RouteHandler handler = findHandler(child, method, path, end, captures, captureCount);
+                if (handler != null) {
+                    return handler;
+                }
+            }
+        }
 
-            if (key.equals("*") || part.matches(key.replace("*", ".*"))) {
-                RouteHandler handler = findHandlerRecursive(method, parts, index + 1, childNode);
+        for (int i = 0; i < node.patternChildren.size(); i++) {
+            PatternEdge edge = node.patternChildren.get(i);
+            if (edge.pattern.matches(path, start, end)) {
+                RouteHandler handler = findHandler(edge.node, method, path, end, captures, captureCount);
                 if (handler != null) {
                     return handler;
                 }
             }
         }
 
+        if (node.paramChild != null) {
+            captures[captureCount] = path.substring(start, end);
+            RouteHandler handler = findHandler(node.paramChild, method, path, end, captures, captureCount + 1);
+            if (handler != null) {
+                return handler;
+            }
+        }
+
+        if (node.wildcardChild != null) {
+            return findHandler(node.wildcardChild, method, path, end, captures, captureCount);
+        }
+
         return null;
     }
 
     Redirect findRedirect(HttpMethod method, String path) {
-        String[] parts = path.split("/");
         TrieNode current = root;
 
-        for (String part : parts) {
-            if (part.isEmpty()) continue;
-
-            current = current.getChildren().get(part);
+        for (String segment : segments(path)) {
+            current = current.children.get(segment);
             if (current == null) return null;
         }
 
-        return current.getRedirects().get(method);
+        return current.redirects.get(method);
+    }
+
+    private static int skipSlashes(String path, int index) {
+        while (index < path.length() && path.charAt(index) == '/') {
+            index++;
+        }
+        return index;
+    }
+
+    private static String paramName(String segment) {
+        if (segment.length() > 1 && segment.charAt(0) == ':') {
+            return segment.substring(1);
+        }
+        if (segment.length() > 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}') {
+            return segment.substring(1, segment.length() - 1);
+        }
+        return null;
+    }
+
+    private static List<String> segments(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    private static String normalize(String path) {
+        return "/" + String.join("/", segments(path));
     }
 
-    @Setter
-    @Getter
     static class TrieNode {
         private final Map<String, TrieNode> children = new HashMap<>();
+        private final List<PatternEdge> patternChildren = new ArrayList<>();
+        private TrieNode paramChild;
         private TrieNode wildcardChild;
-        private final Map<HttpMethod, RouteHandler> handlers = new HashMap<>();
-        private final Map<HttpMethod, Redirect> redirects = new HashMap<>();
+        private final Map<HttpMethod, RouteHandler> handlers = new EnumMap<>(HttpMethod.class);
+        private final Map<HttpMethod, Redirect> redirects = new EnumMap<>(HttpMethod.class);
 
+        private TrieNode patternChild(String segment) {
+            for (PatternEdge edge : patternChildren) {
+                if (edge.pattern.getSource().equals(segment)) {
+                    return edge.node;
+                }
+            }
+            PatternEdge edge = new PatternEdge(new SegmentPattern(segment), new TrieNode());
+            patternChildren.add(edge);
+            return edge.node;
+        }
+    }
+
+    private static class PatternEdge {
+        private final SegmentPattern pattern;
+        private final TrieNode node;
+
+        private PatternEdge(SegmentPattern pattern, TrieNode node) {
+            this.pattern = pattern;
+            this.node = node;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package io.github._3xhaust.routing;
+
+final class SegmentPattern {
+    private final String source;
+    private final String prefix;
+    private final String suffix;
+    private final String[] middle;
+    private final int minimumLength;
+
+    SegmentPattern(String source) {
+        this.source = source;
+        String[] pieces = source.split("\\*", -1);
+        this.prefix = pieces[0];
+        this.suffix = pieces[pieces.length - 1];
+        this.middle = new String[Math.max(0, pieces.length - 2)];
+        System.arraycopy(pieces, 1, middle, 0, middle.length);
+
+        int length = prefix.length() + suffix.length();
+        for (String piece : middle) {
+            length += piece.length();
+        }
+        this.minimumLength = length;
+    }
+
+    String getSource() {
+        return source;
+    }
+
+    boolean matches(String path, int start, int end) {
+        if (end - start < minimumLength
+                || !path.startsWith(prefix, start)
+                || !path.startsWith(suffix, end - suffix.length())) {
+            return false;
+        }
+
+        int position = start + prefix.length();
+        int limit = end - suffix.length();
+        for (String piece : middle) {
+            int found = indexOf(path, piece, position, limit);
+            if (found < 0) {
+                return false;
+            }
+            position = found + piece.length();
+        }
+        return true;
+    }
+
+    private static int indexOf(String path, String piece, int from, int limit) {
+        int found = path.indexOf(piece, from);
+        return found >= 0 && found + piece.length() <= limit ? found : -1;
+    }
+}
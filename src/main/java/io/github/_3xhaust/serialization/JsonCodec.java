@@ -0,0 +1,185 @@
+package io.github._3xhaust.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github._3xhaust.server.ServerExchange;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+public class JsonCodec {
+    public enum Profile {
+        PRETTY, COMPACT
+    }
+
+    private static final int MAX_POOLED_BUFFERS = 64;
+    private static final int MAX_POOLED_CAPACITY = 1024 * 1024;
+    private static final int INITIAL_BUFFER_CAPACITY = 4 * 1024;
+
+    private static volatile JsonCodec shared = new JsonCodec(Profile.PRETTY);
+
+    private final Profile profile;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter defaultWriter;
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Queue<ResponseBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledBuffers = new AtomicInteger();
+
+    public JsonCodec(Profile profile) {
+        this.profile = profile;
+        this.objectMapper = new ObjectMapper();
+
+        if (profile == Profile.PRETTY) {
+            objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+
+            DefaultPrettyPrinter.Indenter indenter = new DefaultIndenter("  ", "\n");
+            DefaultPrettyPrinter printer = new DefaultPrettyPrinter() {
+                @Override
+                public DefaultPrettyPrinter createInstance() {
+                    return new DefaultPrettyPrinter(this);
+                }
+
+                @Override
+                public void writeObjectFieldValueSeparator(JsonGenerator jg) throws IOException {
+                    jg.writeRaw(": ");
+                }
+            };
+            printer.indentObjectsWith(indenter);
+            printer.indentArraysWith(indenter);
+
+            objectMapper.setDefaultPrettyPrinter(printer);
+        }
+
+        this.defaultWriter = objectMapper.writer();
+    }
+
+    public static JsonCodec shared() {
+        return shared;
+    }
+
+    public static void configure(Profile profile) {
+        shared = new JsonCodec(profile);
+    }
+
+    public Profile getProfile() {
+        return profile;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public ObjectReader readerFor(Type type) {
+        return readers.computeIfAbsent(objectMapper.constructType(type), objectMapper::readerFor);
+    }
+
+    public ObjectWriter writerFor(Type type) {
+        return writers.computeIfAbsent(objectMapper.constructType(type), objectMapper::writerFor);
+    }
+
+    public ObjectWriter writerForValue(Object value) {
+        return value == null ? defaultWriter : writerFor(value.getClass());
+    }
+
+    public ObjectWriter writerForReturnType(Type returnType) {
+        Type valueType = returnType;
+        if (valueType instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() == CompletableFuture.class) {
+            valueType = parameterizedType.getActualTypeArguments()[0];
+        }
+        if (valueType instanceof Class<?> valueClass
+                && !valueClass.isPrimitive()
+                && valueClass != String.class
+                && Modifier.isFinal(valueClass.getModifiers())) {
+            return writerFor(valueClass);
+        }
+        return null;
+    }
+
+    public void write(ServerExchange exchange, int statusCode, ObjectWriter writer, Object value) throws IOException {
+        ResponseBuffer buffer = acquireBuffer();
+        try {
+            (writer != null ? writer : writerForValue(value)).writeValue(buffer, value);
+            exchange.setResponseHeader("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(statusCode, buffer.size() == 0 ? -1 : buffer.size());
+            OutputStream os = exchange.getResponseBody();
+            buffer.writeTo(os);
+            os.close();
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    public void writeStream(ServerExchange exchange, int statusCode, Stream<?> stream) throws IOException {
+        exchange.setResponseHeader("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(statusCode, 0);
+
+        try (stream) {
+            SequenceWriter sequenceWriter = defaultWriter.writeValuesAsArray(exchange.getResponseBody());
+            Iterator<?> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                sequenceWriter.write(iterator.next());
+            }
+            sequenceWriter.close();
+        } catch (IOException | RuntimeException e) {
+            exchange.abort();
+            throw e;
+        }
+    }
+
+    private ResponseBuffer acquireBuffer() {
+        ResponseBuffer buffer = bufferPool.poll();
+        if (buffer == null) {
+            return new ResponseBuffer();
+        }
+        pooledBuffers.decrementAndGet();
+        return buffer;
+    }
+
+    private void releaseBuffer(ResponseBuffer buffer) {
+        if (buffer.capacity() > MAX_POOLED_CAPACITY) {
+            return;
+        }
+        if (pooledBuffers.incrementAndGet() > MAX_POOLED_BUFFERS) {
+            pooledBuffers.decrementAndGet();
+            return;
+        }
+        buffer.reset();
+        bufferPool.offer(buffer);
+    }
+
+    private static final class ResponseBuffer extends ByteArrayOutputStream {
+        private ResponseBuffer() {
+            super(INITIAL_BUFFER_CAPACITY);
+        }
+
+        private int capacity() {
+            return buf.length;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            out.write(buf, 0, count);
+        }
+    }
+}
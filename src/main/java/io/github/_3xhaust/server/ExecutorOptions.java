@@ -0,0 +1,127 @@
+package io.github._3xhaust.server;
+
+import lombok.Getter;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Getter
+public class ExecutorOptions {
+    public enum Mode {
+        PLATFORM, VIRTUAL
+    }
+
+    private Mode mode = Mode.PLATFORM;
+    private int threads = 10;
+    private int queueCapacity = Integer.MAX_VALUE;
+    private String threadNamePrefix = "avnoi-worker";
+
+    public ExecutorOptions() {
+    }
+
+    public ExecutorOptions(Map<String, Object> options) {
+        if (options.containsKey("mode")) this.setMode(options.get("mode"));
+        if (options.containsKey("threads")) this.setThreads(options.get("threads"));
+        if (options.containsKey("queueCapacity")) this.setQueueCapacity(options.get("queueCapacity"));
+        if (options.containsKey("threadNamePrefix")) this.setThreadNamePrefix(options.get("threadNamePrefix"));
+    }
+
+    public void setMode(Object mode) {
+        if (mode instanceof Mode) {
+            this.mode = (Mode) mode;
+        } else if (mode instanceof String) {
+            try {
+                this.mode = Mode.valueOf(((String) mode).trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid executor mode: " + mode + ". Expected 'platform' or 'virtual'.");
+            }
+        } else {
+            throw new IllegalArgumentException("Invalid mode type: " + mode.getClass().getName());
+        }
+    }
+
+    public void setThreads(Object threads) {
+        if (threads instanceof Integer && (Integer) threads > 0) {
+            this.threads = (Integer) threads;
+        } else {
+            throw new IllegalArgumentException("Invalid threads value: " + threads);
+        }
+    }
+
+    public void setQueueCapacity(Object queueCapacity) {
+        if (queueCapacity instanceof Integer && (Integer) queueCapacity > 0) {
+            this.queueCapacity = (Integer) queueCapacity;
+        } else {
+            throw new IllegalArgumentException("Invalid queueCapacity value: " + queueCapacity);
+        }
+    }
+
+    public void setThreadNamePrefix(Object threadNamePrefix) {
+        if (threadNamePrefix instanceof String) {
+            this.threadNamePrefix = (String) threadNamePrefix;
+        } else {
+            throw new IllegalArgumentException("Invalid threadNamePrefix type: " + threadNamePrefix.getClass().getName());
+        }
+    }
+
+    public ExecutorService createExecutor() {
+        return createExecutor(false, new LinkedBlockingQueue<>(queueCapacity));
+    }
+
+    public ExecutorService createExecutor(boolean daemon, BlockingQueue<Runnable> queue) {
+        if (mode == Mode.VIRTUAL) {
+            ExecutorService virtualExecutor = createVirtualThreadExecutor();
+            if (virtualExecutor != null) {
+                return virtualExecutor;
+            }
+            System.err.println("Virtual threads require Java 21 or later. Falling back to a platform thread pool of " + threads + " threads.");
+        }
+        return createPlatformExecutor(daemon, queue);
+    }
+
+    public String describe() {
+        if (mode == Mode.VIRTUAL) {
+            return "virtual threads";
+        }
+        return threads + " platform threads" + (queueCapacity == Integer.MAX_VALUE ? "" : ", queue " + queueCapacity);
+    }
+
+    private ExecutorService createPlatformExecutor(boolean daemon, BlockingQueue<Runnable> queue) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(daemon);
+            return thread;
+        };
+
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                60L,
+                TimeUnit.SECONDS,
+                queue,
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    private ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException("Failed to create virtual thread executor: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package io.github._3xhaust.server;
+
+@FunctionalInterface
+public interface RequestHandler {
+    void handle(ServerExchange exchange);
+}
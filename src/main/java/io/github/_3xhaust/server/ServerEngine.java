@@ -0,0 +1,23 @@
+package io.github._3xhaust.server;
+
+import io.github._3xhaust.server.nio.NioServerEngine;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+
+public interface ServerEngine {
+    void start(InetSocketAddress address, RequestHandler handler, ExecutorService executor) throws IOException;
+
+    void stop();
+
+    String getName();
+
+    static ServerEngine of(String name) {
+        return switch (name.trim().toLowerCase()) {
+            case "default", "sun", "jdk" -> new SunHttpServerEngine();
+            case "nio" -> new NioServerEngine();
+            default -> throw new IllegalArgumentException("Unknown server engine: " + name + ". Expected 'default' or 'nio'.");
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package io.github._3xhaust.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface ServerExchange {
+    String getRequestMethod();
+
+    String getPath();
+
+    String getQuery();
+
+    String getRequestHeader(String name);
+
+    InputStream getRequestBody();
+
+    void setResponseHeader(String name, String value);
+
+    void addResponseHeader(String name, String value);
+
+    /**
+     * Same contract as {@link com.sun.net.httpserver.HttpExchange#sendResponseHeaders(int, long)}:
+     * a positive length is sent as Content-Length, 0 streams a body of unknown length and -1 sends no body.
+     */
+    void sendResponseHeaders(int statusCode, long contentLength) throws IOException;
+
+    OutputStream getResponseBody();
+
+    void close();
+
+    /**
+     * Ends the exchange without completing the response body, so the client can tell it was cut short.
+     */
+    void abort();
+}
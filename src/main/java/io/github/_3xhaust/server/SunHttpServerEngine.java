@@ -0,0 +1,53 @@
+package io.github._3xhaust.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+public class SunHttpServerEngine implements ServerEngine {
+    private HttpServer server;
+
+    @Override
+    public void start(InetSocketAddress address, RequestHandler handler, ExecutorService executor) throws IOException {
+        server = HttpServer.create(address, 0);
+        server.createContext("/", exchange -> dispatch(exchange, handler, executor));
+        server.start();
+    }
+
+    private void dispatch(HttpExchange exchange, RequestHandler handler, ExecutorService executor) {
+        try {
+            executor.execute(() -> {
+                try {
+                    handler.handle(new SunHttpServerExchange(exchange));
+                } catch (Throwable t) {
+                    t.printStackTrace();
+                    exchange.close();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            try {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                exchange.sendResponseHeaders(503, -1);
+            } catch (IOException ignored) {
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "com.sun.net.httpserver";
+    }
+}
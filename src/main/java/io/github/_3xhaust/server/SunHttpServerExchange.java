@@ -0,0 +1,70 @@
+package io.github._3xhaust.server;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+class SunHttpServerExchange implements ServerExchange {
+    private final HttpExchange exchange;
+
+    SunHttpServerExchange(HttpExchange exchange) {
+        this.exchange = exchange;
+    }
+
+    @Override
+    public String getRequestMethod() {
+        return exchange.getRequestMethod();
+    }
+
+    @Override
+    public String getPath() {
+        return exchange.getRequestURI().getPath();
+    }
+
+    @Override
+    public String getQuery() {
+        return exchange.getRequestURI().getQuery();
+    }
+
+    @Override
+    public String getRequestHeader(String name) {
+        return exchange.getRequestHeaders().getFirst(name);
+    }
+
+    @Override
+    public InputStream getRequestBody() {
+        return exchange.getRequestBody();
+    }
+
+    @Override
+    public void setResponseHeader(String name, String value) {
+        exchange.getResponseHeaders().set(name, value);
+    }
+
+    @Override
+    public void addResponseHeader(String name, String value) {
+        exchange.getResponseHeaders().add(name, value);
+    }
+
+    @Override
+    public void sendResponseHeaders(int statusCode, long contentLength) throws IOException {
+        exchange.sendResponseHeaders(statusCode, contentLength);
+    }
+
+    @Override
+    public OutputStream getResponseBody() {
+        return exchange.getResponseBody();
+    }
+
+    @Override
+    public void close() {
+        exchange.close();
+    }
+
+    @Override
+    public void abort() {
+        exchange.close();
+    }
+}
@@ -0,0 +1,16 @@
+package io.github._3xhaust.server.nio;
+
+final class HttpParseException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    private final int statusCode;
+
+    HttpParseException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    int getStatusCode() {
+        return statusCode;
+    }
+}
@@ -0,0 +1,262 @@
+package io.github._3xhaust.server.nio;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class HttpRequestParser {
+    static final int MAX_HEADER_SIZE = 16 * 1024;
+    static final int MAX_BODY_SIZE = 16 * 1024 * 1024;
+
+    private byte[] buffer = new byte[8 * 1024];
+    private int start;
+    private int end;
+    private int scanned;
+    private ByteArrayOutputStream chunkedBody;
+    private int chunkPosition;
+
+    void append(ByteBuffer source) {
+        int length = source.remaining();
+        if (end + length > buffer.length) {
+            compact();
+            if (end + length > buffer.length) {
+                byte[] grown = new byte[Math.max(buffer.length * 2, end + length)];
+                System.arraycopy(buffer, 0, grown, 0, end);
+                buffer = grown;
+            }
+        }
+        source.get(buffer, end, length);
+        end += length;
+    }
+
+    boolean hasBufferedData() {
+        return end > start;
+    }
+
+    NioRequest next() throws HttpParseException {
+        int headerEnd = findHeaderEnd();
+        if (headerEnd < 0) {
+            if (end - start > MAX_HEADER_SIZE) {
+                throw new HttpParseException(431, "Request header fields too large");
+            }
+            return null;
+        }
+
+        int position = start;
+        int lineEnd = indexOfCrlf(position, headerEnd);
+        String requestLine = ascii(position, lineEnd);
+        int firstSpace = requestLine.indexOf(' ');
+        int lastSpace = requestLine.lastIndexOf(' ');
+        if (firstSpace <= 0 || lastSpace <= firstSpace) {
+            throw new HttpParseException(400, "Malformed request line");
+        }
+        String method = requestLine.substring(0, firstSpace);
+        String target = requestLine.substring(firstSpace + 1, lastSpace);
+        String version = requestLine.substring(lastSpace + 1);
+        boolean http11;
+        if ("HTTP/1.1".equals(version)) {
+            http11 = true;
+        } else if ("HTTP/1.0".equals(version)) {
+            http11 = false;
+        } else {
+            throw new HttpParseException(505, "Unsupported HTTP version: " + version);
+        }
+
+        Map<String, List<String>> headers = new HashMap<>();
+        position = lineEnd + 2;
+        while (position < headerEnd) {
+            lineEnd = indexOfCrlf(position, headerEnd);
+            int colon = indexOf((byte) ':', position, lineEnd);
+            if (colon < 0) {
+                throw new HttpParseException(400, "Malformed header line");
+            }
+            String name = ascii(position, colon).trim().toLowerCase();
+            String value = new String(buffer, colon + 1, lineEnd - colon - 1, StandardCharsets.ISO_8859_1).trim();
+            headers.computeIfAbsent(name, key -> new ArrayList<>(1)).add(value);
+            position = lineEnd + 2;
+        }
+
+        int bodyStart = headerEnd + 4;
+        byte[] body;
+        int consumedTo;
+        String transferEncoding = first(headers, "transfer-encoding");
+        if (transferEncoding != null && transferEncoding.toLowerCase().contains("chunked")) {
+            if (chunkedBody == null) {
+                chunkedBody = new ByteArrayOutputStream();
+                chunkPosition = bodyStart;
+            }
+            consumedTo = decodeChunked();
+            if (consumedTo < 0) {
+                return null;
+            }
+            body = chunkedBody.toByteArray();
+            chunkedBody = null;
+        } else {
+            String contentLength = first(headers, "content-length");
+            int length = 0;
+            if (contentLength != null) {
+                try {
+                    length = Integer.parseInt(contentLength);
+                } catch (NumberFormatException e) {
+                    throw new HttpParseException(400, "Invalid Content-Length: " + contentLength);
+                }
+                if (length < 0) {
+                    throw new HttpParseException(400, "Invalid Content-Length: " + contentLength);
+                }
+                if (length > MAX_BODY_SIZE) {
+                    throw new HttpParseException(413, "Request body too large");
+                }
+            }
+            if (end - bodyStart < length) {
+                return null;
+            }
+            body = new byte[length];
+            System.arraycopy(buffer, bodyStart, body, 0, length);
+            consumedTo = bodyStart + length;
+        }
+
+        start = consumedTo;
+        scanned = start;
+        if (start == end) {
+            start = 0;
+            end = 0;
+            scanned = 0;
+        }
+
+        String connection = first(headers, "connection");
+        boolean keepAlive = http11
+                ? connection == null || !connection.equalsIgnoreCase("close")
+                : connection != null && connection.equalsIgnoreCase("keep-alive");
+
+        int queryIndex = target.indexOf('?');
+        String path = decode(queryIndex < 0 ? target : target.substring(0, queryIndex));
+        String query = queryIndex < 0 ? null : decode(target.substring(queryIndex + 1));
+
+        return new NioRequest(method, path, query, headers, body, keepAlive, http11);
+    }
+
+    private int findHeaderEnd() {
+        int from = Math.max(start, scanned - 3);
+        for (int i = from; i + 3 < end; i++) {
+            if (buffer[i] == '\r' && buffer[i + 1] == '\n' && buffer[i + 2] == '\r' && buffer[i + 3] == '\n') {
+                return i;
+            }
+        }
+        scanned = end;
+        return -1;
+    }
+
+    private int decodeChunked() throws HttpParseException {
+        while (true) {
+            int lineEnd = indexOfCrlf(chunkPosition, end);
+            if (lineEnd < 0) {
+                return -1;
+            }
+            String sizeLine = ascii(chunkPosition, lineEnd);
+            int extension = sizeLine.indexOf(';');
+            long size;
+            try {
+                size = Long.parseLong((extension < 0 ? sizeLine : sizeLine.substring(0, extension)).trim(), 16);
+            } catch (NumberFormatException e) {
+                throw new HttpParseException(400, "Invalid chunk size");
+            }
+            if (size < 0) {
+                throw new HttpParseException(400, "Invalid chunk size");
+            }
+            int position = lineEnd + 2;
+            if (size == 0) {
+                while (true) {
+                    int trailerEnd = indexOfCrlf(position, end);
+                    if (trailerEnd < 0) {
+                        return -1;
+                    }
+                    if (trailerEnd == position) {
+                        return trailerEnd + 2;
+                    }
+                    position = trailerEnd + 2;
+                }
+            }
+            if (size > MAX_BODY_SIZE - chunkedBody.size()) {
+                throw new HttpParseException(413, "Request body too large");
+            }
+            int length = (int) size;
+            if (end - position < length + 2) {
+                return -1;
+            }
+            chunkedBody.write(buffer, position, length);
+            chunkPosition = position + length + 2;
+        }
+    }
+
+    private void compact() {
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, end - start);
+            end -= start;
+            scanned -= start;
+            chunkPosition -= start;
+            start = 0;
+        }
+    }
+
+    private int indexOfCrlf(int from, int to) {
+        for (int i = from; i <= to && i + 1 < end; i++) {
+            if (buffer[i] == '\r' && buffer[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int indexOf(byte value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private String ascii(int from, int to) {
+        return new String(buffer, from, to - from, StandardCharsets.ISO_8859_1);
+    }
+
+    private static String first(Map<String, List<String>> headers, String name) {
+        List<String> values = headers.get(name);
+        return values == null ? null : values.get(0);
+    }
+
+    static String decode(String value) {
+        if (!needsDecoding(value)) {
+            return value;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' && i + 2 < value.length()) {
+                int high = Character.digit(value.charAt(i + 1), 16);
+                int low = Character.digit(value.charAt(i + 2), 16);
+                if (high >= 0 && low >= 0) {
+                    out.write((high << 4) + low);
+                    i += 2;
+                    continue;
+                }
+            }
+            out.write(c);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static boolean needsDecoding(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c >= 0x80) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,68 @@
+package io.github._3xhaust.server.nio;
+
+import io.github._3xhaust.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+final class HttpResponseHead {
+    private static final String[] STATUS_LINES_11 = new String[600];
+    private static final String[] STATUS_LINES_10 = new String[600];
+    private static volatile long dateSecond;
+    private static volatile String dateValue;
+
+    static {
+        for (HttpStatus status : HttpStatus.values()) {
+            String reason = reasonPhrase(status);
+            STATUS_LINES_11[status.getCode()] = "HTTP/1.1 " + status.getCode() + " " + reason + "\r\n";
+            STATUS_LINES_10[status.getCode()] = "HTTP/1.0 " + status.getCode() + " " + reason + "\r\n";
+        }
+    }
+
+    private HttpResponseHead() {
+    }
+
+    static void appendStatusLine(StringBuilder head, int statusCode, boolean http11) {
+        String line = statusCode >= 0 && statusCode < 600 ? (http11 ? STATUS_LINES_11 : STATUS_LINES_10)[statusCode] : null;
+        if (line != null) {
+            head.append(line);
+        } else {
+            head.append(http11 ? "HTTP/1.1 " : "HTTP/1.0 ").append(statusCode).append(" \r\n");
+        }
+    }
+
+    static void appendHeader(StringBuilder head, String name, String value) {
+        head.append(name).append(": ").append(value).append("\r\n");
+    }
+
+    static String date() {
+        long now = System.currentTimeMillis() / 1000;
+        String value = dateValue;
+        if (value == null || now != dateSecond) {
+            value = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC));
+            dateValue = value;
+            dateSecond = now;
+        }
+        return value;
+    }
+
+    static byte[] toBytes(StringBuilder head) {
+        return head.append("\r\n").toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static String reasonPhrase(HttpStatus status) {
+        if (status == HttpStatus.OK) {
+            return "OK";
+        }
+        StringBuilder reason = new StringBuilder();
+        for (String word : status.name().split("_")) {
+            if (reason.length() > 0) {
+                reason.append(' ');
+            }
+            reason.append(word.charAt(0)).append(word.substring(1).toLowerCase());
+        }
+        return reason.toString();
+    }
+}
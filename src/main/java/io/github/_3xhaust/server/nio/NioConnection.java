@@ -0,0 +1,272 @@
+package io.github._3xhaust.server.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+
+final class NioConnection {
+    private static final int MAX_PIPELINED_REQUESTS = 32;
+    private static final long MAX_PENDING_WRITE_BYTES = 1024 * 1024;
+
+    private final SocketChannel channel;
+    private final EventLoop eventLoop;
+    private final HttpRequestParser parser = new HttpRequestParser();
+    private final ArrayDeque<NioRequest> pendingRequests = new ArrayDeque<>();
+    private final ArrayDeque<ByteBuffer> writeQueue = new ArrayDeque<>();
+    private SelectionKey key;
+    private HttpParseException parseError;
+    private boolean processing;
+    private boolean readSuspended;
+    private boolean writeInterest;
+    private boolean closeAfterWrite;
+    private boolean closed;
+    private long pendingWriteBytes;
+    private volatile long lastActivity = System.nanoTime();
+
+    NioConnection(SocketChannel channel, EventLoop eventLoop) {
+        this.channel = channel;
+        this.eventLoop = eventLoop;
+    }
+
+    void setKey(SelectionKey key) {
+        this.key = key;
+    }
+
+    long getLastActivity() {
+        return lastActivity;
+    }
+
+    synchronized boolean isIdle() {
+        return !processing && pendingRequests.isEmpty() && writeQueue.isEmpty();
+    }
+
+    void onReadable(ByteBuffer readBuffer) {
+        readBuffer.clear();
+        int read;
+        try {
+            read = channel.read(readBuffer);
+        } catch (IOException e) {
+            close();
+            return;
+        }
+        if (read < 0) {
+            synchronized (this) {
+                closeAfterWrite = true;
+                suspendReading();
+                if (isIdle()) {
+                    closeLocked();
+                }
+            }
+            return;
+        }
+        lastActivity = System.nanoTime();
+        readBuffer.flip();
+        parser.append(readBuffer);
+        parseRequests();
+    }
+
+    void onWritable() {
+        synchronized (this) {
+            flushLocked();
+        }
+    }
+
+    void resume() {
+        synchronized (this) {
+            if (closed || closeAfterWrite) {
+                return;
+            }
+            if (readSuspended && pendingRequests.size() < MAX_PIPELINED_REQUESTS) {
+                readSuspended = false;
+                key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+            }
+        }
+        if (parser.hasBufferedData()) {
+            parseRequests();
+        }
+    }
+
+    private void parseRequests() {
+        synchronized (this) {
+            try {
+                while (parseError == null && pendingRequests.size() < MAX_PIPELINED_REQUESTS) {
+                    NioRequest request = parser.next();
+                    if (request == null) {
+                        break;
+                    }
+                    pendingRequests.add(request);
+                    if (!request.keepAlive) {
+                        suspendReading();
+                        break;
+                    }
+                }
+            } catch (HttpParseException e) {
+                parseError = e;
+                suspendReading();
+            }
+            if (pendingRequests.size() >= MAX_PIPELINED_REQUESTS) {
+                suspendReading();
+            }
+        }
+        dispatchNext();
+    }
+
+    private void dispatchNext() {
+        NioExchange exchange;
+        synchronized (this) {
+            if (processing || closed) {
+                return;
+            }
+            NioRequest request = pendingRequests.poll();
+            if (request == null) {
+                if (parseError != null && !closeAfterWrite) {
+                    rejectLocked(parseError);
+                } else if (closeAfterWrite && writeQueue.isEmpty()) {
+                    closeLocked();
+                }
+                return;
+            }
+            processing = true;
+            exchange = new NioExchange(this, request);
+        }
+        eventLoop.dispatch(exchange);
+    }
+
+    void onExchangeRejected(HttpParseException error) {
+        synchronized (this) {
+            processing = false;
+            pendingRequests.clear();
+            rejectLocked(error);
+        }
+    }
+
+    void onExchangeComplete(boolean keepAlive) {
+        boolean resumeReading;
+        synchronized (this) {
+            processing = false;
+            lastActivity = System.nanoTime();
+            if (!keepAlive) {
+                closeAfterWrite = true;
+                pendingRequests.clear();
+                suspendReading();
+                if (writeQueue.isEmpty()) {
+                    closeLocked();
+                }
+                return;
+            }
+            resumeReading = readSuspended && parseError == null;
+        }
+        dispatchNext();
+        if (resumeReading) {
+            eventLoop.execute(this::resume);
+        }
+    }
+
+    void write(ByteBuffer buffer) throws IOException {
+        synchronized (this) {
+            if (closed) {
+                throw new IOException("Connection is closed");
+            }
+            writeQueue.add(buffer);
+            pendingWriteBytes += buffer.remaining();
+            flushLocked();
+            while (pendingWriteBytes > MAX_PENDING_WRITE_BYTES && !closed && !eventLoop.inEventLoop()) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for the client to read the response", e);
+                }
+            }
+            if (closed) {
+                throw new IOException("Connection is closed");
+            }
+        }
+    }
+
+    void close() {
+        synchronized (this) {
+            closeLocked();
+        }
+    }
+
+    private void flushLocked() {
+        if (closed) {
+            return;
+        }
+        try {
+            while (!writeQueue.isEmpty()) {
+                ByteBuffer head = writeQueue.peek();
+                pendingWriteBytes -= channel.write(head);
+                if (head.hasRemaining()) {
+                    if (!writeInterest) {
+                        writeInterest = true;
+                        eventLoop.execute(() -> updateInterest(SelectionKey.OP_WRITE, true));
+                    }
+                    return;
+                }
+                writeQueue.poll();
+            }
+            notifyAll();
+            if (writeInterest) {
+                writeInterest = false;
+                eventLoop.execute(() -> updateInterest(SelectionKey.OP_WRITE, false));
+            }
+            if (closeAfterWrite && !processing) {
+                closeLocked();
+            }
+        } catch (IOException e) {
+            closeLocked();
+        }
+    }
+
+    private void rejectLocked(HttpParseException error) {
+        closeAfterWrite = true;
+        byte[] body = error.getMessage().getBytes(StandardCharsets.UTF_8);
+        StringBuilder head = new StringBuilder();
+        HttpResponseHead.appendStatusLine(head, error.getStatusCode(), true);
+        HttpResponseHead.appendHeader(head, "Content-Type", "text/plain; charset=utf-8");
+        HttpResponseHead.appendHeader(head, "Content-Length", Integer.toString(body.length));
+        HttpResponseHead.appendHeader(head, "Connection", "close");
+        writeQueue.add(ByteBuffer.wrap(HttpResponseHead.toBytes(head)));
+        writeQueue.add(ByteBuffer.wrap(body));
+        flushLocked();
+    }
+
+    private void suspendReading() {
+        if (!readSuspended && key != null && key.isValid()) {
+            readSuspended = true;
+            if (eventLoop.inEventLoop()) {
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+            } else {
+                eventLoop.execute(() -> updateInterest(SelectionKey.OP_READ, false));
+            }
+        }
+    }
+
+    private void updateInterest(int operation, boolean enabled) {
+        if (key.isValid()) {
+            key.interestOps(enabled ? key.interestOps() | operation : key.interestOps() & ~operation);
+        }
+    }
+
+    private void closeLocked() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        writeQueue.clear();
+        pendingRequests.clear();
+        notifyAll();
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
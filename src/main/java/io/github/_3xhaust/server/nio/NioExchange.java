@@ -0,0 +1,285 @@
+package io.github._3xhaust.server.nio;
+
+import io.github._3xhaust.server.ServerExchange;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+final class NioExchange implements ServerExchange {
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final int MAX_FIXED_BUFFER = 256 * 1024;
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] LAST_CHUNK = {'0', '\r', '\n', '\r', '\n'};
+
+    private enum BodyMode {
+        NONE, FIXED, CHUNKED, UNTIL_CLOSE
+    }
+
+    private final NioConnection connection;
+    private final NioRequest request;
+    private final Map<String, List<String>> responseHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final ResponseStream responseStream = new ResponseStream();
+    private boolean keepAlive;
+    private boolean headersSent;
+    private boolean closed;
+
+    NioExchange(NioConnection connection, NioRequest request) {
+        this.connection = connection;
+        this.request = request;
+        this.keepAlive = request.keepAlive;
+    }
+
+    @Override
+    public String getRequestMethod() {
+        return request.method;
+    }
+
+    @Override
+    public String getPath() {
+        return request.path;
+    }
+
+    @Override
+    public String getQuery() {
+        return request.query;
+    }
+
+    @Override
+    public String getRequestHeader(String name) {
+        return request.getHeader(name);
+    }
+
+    @Override
+    public InputStream getRequestBody() {
+        return new ByteArrayInputStream(request.body);
+    }
+
+    @Override
+    public void setResponseHeader(String name, String value) {
+        List<String> values = new ArrayList<>(1);
+        values.add(value);
+        responseHeaders.put(name, values);
+    }
+
+    @Override
+    public void addResponseHeader(String name, String value) {
+        responseHeaders.computeIfAbsent(name, key -> new ArrayList<>(1)).add(value);
+    }
+
+    @Override
+    public void sendResponseHeaders(int statusCode, long contentLength) throws IOException {
+        if (headersSent) {
+            throw new IOException("Response headers have already been sent");
+        }
+        headersSent = true;
+
+        boolean bodyAllowed = !"HEAD".equals(request.method) && statusCode >= 200 && statusCode != 204 && statusCode != 304;
+        StringBuilder head = new StringBuilder(128 + responseHeaders.size() * 32);
+        HttpResponseHead.appendStatusLine(head, statusCode, request.http11);
+
+        BodyMode mode;
+        if (contentLength > 0) {
+            HttpResponseHead.appendHeader(head, "Content-Length", Long.toString(contentLength));
+            mode = bodyAllowed ? BodyMode.FIXED : BodyMode.NONE;
+        } else if (contentLength == 0 && bodyAllowed) {
+            if (request.http11) {
+                HttpResponseHead.appendHeader(head, "Transfer-Encoding", "chunked");
+                mode = BodyMode.CHUNKED;
+            } else {
+                keepAlive = false;
+                mode = BodyMode.UNTIL_CLOSE;
+            }
+        } else {
+            if (statusCode >= 200 && statusCode != 204 && statusCode != 304) {
+                HttpResponseHead.appendHeader(head, "Content-Length", "0");
+            }
+            mode = BodyMode.NONE;
+        }
+
+        List<String> connectionHeader = responseHeaders.remove("Connection");
+        if (connectionHeader != null && connectionHeader.contains("close")) {
+            keepAlive = false;
+        }
+        if (!keepAlive) {
+            HttpResponseHead.appendHeader(head, "Connection", "close");
+        } else if (!request.http11) {
+            HttpResponseHead.appendHeader(head, "Connection", "keep-alive");
+        }
+        if (!responseHeaders.containsKey("Date")) {
+            HttpResponseHead.appendHeader(head, "Date", HttpResponseHead.date());
+        }
+        for (Map.Entry<String, List<String>> header : responseHeaders.entrySet()) {
+            for (String value : header.getValue()) {
+                HttpResponseHead.appendHeader(head, header.getKey(), value);
+            }
+        }
+
+        responseStream.open(HttpResponseHead.toBytes(head), mode, contentLength);
+    }
+
+    @Override
+    public OutputStream getResponseBody() {
+        return responseStream;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        if (!headersSent) {
+            closed = true;
+            connection.onExchangeComplete(false);
+            return;
+        }
+        try {
+            responseStream.close();
+        } catch (IOException e) {
+            closed = true;
+            connection.onExchangeComplete(false);
+        }
+    }
+
+    void reject(int statusCode, String message) {
+        if (!closed) {
+            closed = true;
+            connection.onExchangeRejected(new HttpParseException(statusCode, message));
+        }
+    }
+
+    @Override
+    public void abort() {
+        if (!closed) {
+            closed = true;
+            connection.onExchangeComplete(false);
+        }
+    }
+
+    private final class ResponseStream extends OutputStream {
+        private BodyMode mode = BodyMode.NONE;
+        private byte[] buffer;
+        private int count;
+        private int bodyStart;
+        private long remaining;
+
+        void open(byte[] head, BodyMode mode, long contentLength) {
+            this.mode = mode;
+            this.remaining = contentLength;
+            int capacity = head.length + (mode == BodyMode.FIXED
+                    ? (int) Math.min(contentLength, MAX_FIXED_BUFFER)
+                    : mode == BodyMode.NONE ? 0 : CHUNK_SIZE);
+            buffer = new byte[capacity];
+            System.arraycopy(head, 0, buffer, 0, head.length);
+            count = head.length;
+            bodyStart = head.length;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (closed) {
+                throw new IOException("Exchange is already closed");
+            }
+            if (!headersSent) {
+                throw new IOException("sendResponseHeaders must be called before writing the response body");
+            }
+            if (mode == BodyMode.NONE || length == 0) {
+                return;
+            }
+            if (mode == BodyMode.FIXED) {
+                if (length > remaining) {
+                    throw new IOException("Response body exceeds the declared Content-Length");
+                }
+                remaining -= length;
+            }
+            while (length > 0) {
+                if (count == buffer.length) {
+                    drain();
+                }
+                int copied = Math.min(length, buffer.length - count);
+                System.arraycopy(bytes, offset, buffer, count, copied);
+                count += copied;
+                offset += copied;
+                length -= copied;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (mode == BodyMode.CHUNKED || mode == BodyMode.UNTIL_CLOSE) {
+                drain();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (mode == BodyMode.FIXED && remaining > 0) {
+                connection.write(ByteBuffer.wrap(buffer, 0, count));
+                connection.onExchangeComplete(false);
+                return;
+            }
+            if (mode == BodyMode.CHUNKED) {
+                connection.write(ByteBuffer.wrap(chunk(LAST_CHUNK)));
+            } else if (count > 0) {
+                connection.write(ByteBuffer.wrap(buffer, 0, count));
+            }
+            buffer = null;
+            connection.onExchangeComplete(keepAlive);
+        }
+
+        private void drain() throws IOException {
+            if (mode == BodyMode.CHUNKED) {
+                if (count > bodyStart) {
+                    connection.write(ByteBuffer.wrap(chunk(null)));
+                    count = 0;
+                    bodyStart = 0;
+                }
+            } else if (count > 0) {
+                connection.write(ByteBuffer.wrap(buffer, 0, count));
+                buffer = new byte[buffer.length];
+                count = 0;
+                bodyStart = 0;
+            }
+        }
+
+        private byte[] chunk(byte[] trailer) {
+            int dataLength = count - bodyStart;
+            byte[] size = dataLength > 0
+                    ? (Integer.toHexString(dataLength) + "\r\n").getBytes(StandardCharsets.ISO_8859_1)
+                    : new byte[0];
+            int trailerLength = trailer == null ? 0 : trailer.length;
+            byte[] frame = new byte[bodyStart + size.length + dataLength + (dataLength > 0 ? CRLF.length : 0) + trailerLength];
+            int position = 0;
+            System.arraycopy(buffer, 0, frame, position, bodyStart);
+            position += bodyStart;
+            if (dataLength > 0) {
+                System.arraycopy(size, 0, frame, position, size.length);
+                position += size.length;
+                System.arraycopy(buffer, bodyStart, frame, position, dataLength);
+                position += dataLength;
+                System.arraycopy(CRLF, 0, frame, position, CRLF.length);
+                position += CRLF.length;
+            }
+            if (trailer != null) {
+                System.arraycopy(trailer, 0, frame, position, trailer.length);
+            }
+            return frame;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github._3xhaust.server.nio;
+
+import java.util.List;
+import java.util.Map;
+
+final class NioRequest {
+    final String method;
+    final String path;
+    final String query;
+    final Map<String, List<String>> headers;
+    final byte[] body;
+    final boolean keepAlive;
+    final boolean http11;
+
+    NioRequest(String method, String path, String query, Map<String, List<String>> headers, byte[] body, boolean keepAlive, boolean http11) {
+        this.method = method;
+        this.path = path;
+        this.query = query;
+        this.headers = headers;
+        this.body = body;
+        this.keepAlive = keepAlive;
+        this.http11 = http11;
+    }
+
+    String getHeader(String name) {
+        List<String> values = headers.get(name.toLowerCase());
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+}
@@ -0,0 +1,91 @@
+package io.github._3xhaust.server.nio;
+
+import io.github._3xhaust.server.RequestHandler;
+import io.github._3xhaust.server.ServerEngine;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ExecutorService;
+
+public class NioServerEngine implements ServerEngine {
+    private static final int ACCEPT_BACKLOG = 1024;
+
+    private final int eventLoopCount;
+    private ServerSocketChannel serverChannel;
+    private EventLoop[] eventLoops;
+    private volatile boolean running;
+
+    public NioServerEngine() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public NioServerEngine(int eventLoopCount) {
+        if (eventLoopCount <= 0) {
+            throw new IllegalArgumentException("Invalid eventLoopCount value: " + eventLoopCount);
+        }
+        this.eventLoopCount = eventLoopCount;
+    }
+
+    @Override
+    public void start(InetSocketAddress address, RequestHandler handler, ExecutorService executor) throws IOException {
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+        try {
+            serverChannel.bind(address, ACCEPT_BACKLOG);
+        } catch (IOException e) {
+            serverChannel.close();
+            throw e;
+        }
+
+        eventLoops = new EventLoop[eventLoopCount];
+        for (int i = 0; i < eventLoopCount; i++) {
+            eventLoops[i] = new EventLoop(i + 1, handler, executor);
+            eventLoops[i].start();
+        }
+
+        running = true;
+        new Thread(this::acceptLoop, "avnoi-nio-acceptor").start();
+    }
+
+    private void acceptLoop() {
+        int next = 0;
+        while (running) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                eventLoops[next].register(channel);
+                next = (next + 1) % eventLoops.length;
+            } catch (ClosedChannelException e) {
+                break;
+            } catch (IOException e) {
+                if (running) {
+                    System.err.println("Failed to accept connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            if (serverChannel != null) {
+                serverChannel.close();
+            }
+        } catch (IOException ignored) {
+        }
+        if (eventLoops != null) {
+            for (EventLoop eventLoop : eventLoops) {
+                eventLoop.shutdown();
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "nio (" + eventLoopCount + " event loops)";
+    }
+}
@@ -0,0 +1,123 @@
+package io.github._3xhaust;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github._3xhaust.annotations.Controller;
+import io.github._3xhaust.annotations.Module;
+import io.github._3xhaust.annotations.http.Get;
+import io.github._3xhaust.exceptions.HttpException;
+import io.github._3xhaust.http.HttpStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvnoiAsyncTest {
+    @Controller("async")
+    public static class AsyncController {
+        static volatile CompletableFuture<Object> pending = new CompletableFuture<>();
+
+        @Get("pending")
+        public CompletableFuture<Object> pending() {
+            return pending;
+        }
+
+        @Get("conflict")
+        public CompletableFuture<Object> conflict() {
+            return CompletableFuture.supplyAsync(() -> {
+                throw new HttpException(Map.of("status", 409, "message", "taken"), HttpStatus.CONFLICT);
+            });
+        }
+
+        @Get("broken")
+        public CompletableFuture<Object> broken() {
+            return CompletableFuture.failedFuture(new IllegalStateException("broken"));
+        }
+
+        @Get("sync")
+        public String sync() {
+            return "sync";
+        }
+    }
+
+    @Module(controllers = {AsyncController.class})
+    public static class AsyncModule {
+    }
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+    private static int port;
+
+    @BeforeAll
+    static void start() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        Avnoi.run(AsyncModule.class, Map.of("port", port, "executor", Map.of("threads", 1)));
+        for (int attempt = 0; ; attempt++) {
+            try {
+                get("/async/sync").get(2, TimeUnit.SECONDS);
+                return;
+            } catch (Exception e) {
+                if (!(e.getCause() instanceof ConnectException) || attempt == 50) {
+                    throw e;
+                }
+                Thread.sleep(100);
+            }
+        }
+    }
+
+    private static CompletableFuture<HttpResponse<String>> get(String path) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static Map<?, ?> json(HttpResponse<String> response) throws IOException {
+        return objectMapper.readValue(response.body(), Map.class);
+    }
+
+    @Test
+    void pendingFuturesDoNotHoldTheOnlyWorker() throws Exception {
+        AsyncController.pending = new CompletableFuture<>();
+        CompletableFuture<HttpResponse<String>> waiting = get("/async/pending");
+
+        HttpResponse<String> sync = get("/async/sync").get(5, TimeUnit.SECONDS);
+        assertEquals(200, sync.statusCode());
+        assertEquals("sync", sync.body());
+        assertFalse(waiting.isDone());
+
+        AsyncController.pending.complete(Map.of("ok", true));
+        HttpResponse<String> completed = waiting.get(5, TimeUnit.SECONDS);
+        assertEquals(200, completed.statusCode());
+        assertEquals(Map.of("ok", true), json(completed));
+    }
+
+    @Test
+    void mapsHttpExceptionsThrownInsideTheFuture() throws Exception {
+        HttpResponse<String> response = get("/async/conflict").get(5, TimeUnit.SECONDS);
+
+        assertEquals(409, response.statusCode());
+        assertEquals("taken", json(response).get("message"));
+    }
+
+    @Test
+    void mapsOtherFailuresToInternalServerError() throws Exception {
+        HttpResponse<String> response = get("/async/broken").get(5, TimeUnit.SECONDS);
+
+        assertEquals(500, response.statusCode());
+        assertEquals(500, json(response).get("status"));
+    }
+}
@@ -0,0 +1,163 @@
+package io.github._3xhaust.binding;
+
+import io.github._3xhaust.annotations.Query;
+import io.github._3xhaust.annotations.http.Param;
+import io.github._3xhaust.annotations.types.Body;
+import io.github._3xhaust.http.HttpMethod;
+import io.github._3xhaust.routing.RouteMatch;
+import io.github._3xhaust.routing.Router;
+import io.github._3xhaust.server.ServerExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BindingPlanTest {
+    public static class SearchDto {
+        public String term;
+        public int page;
+        public Boolean exact;
+    }
+
+    public static class ItemDto {
+        public String name;
+        public Double price;
+    }
+
+    public static class Routes {
+        public Object item(@Param("id") long id, @Param("slug") String slug) {
+            return null;
+        }
+
+        public Object legacy(@Param("page") int page) {
+            return null;
+        }
+
+        public Object search(@Query SearchDto query, String unbound) {
+            return null;
+        }
+
+        public Object create(@Body ItemDto body) {
+            return null;
+        }
+
+        public Object createMany(@Body List<ItemDto> body) {
+            return null;
+        }
+
+        public Object none() {
+            return null;
+        }
+    }
+
+    private Router router;
+
+    private static ServerExchange exchange(String path, String query, String contentType, String body) {
+        return (ServerExchange) Proxy.newProxyInstance(ServerExchange.class.getClassLoader(), new Class<?>[]{ServerExchange.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getPath" -> path;
+                    case "getQuery" -> query;
+                    case "getRequestHeader" -> "Content-Type".equalsIgnoreCase((String) args[0]) ? contentType : null;
+                    case "getRequestBody" -> new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private Object[] bind(HttpMethod method, String path, ServerExchange exchange) throws Exception {
+        RouteMatch match = router.match(method, path);
+        assertNotNull(match);
+        return match.getHandler().getBindingPlan().bind(exchange, match);
+    }
+
+    private static Method handler(String name) {
+        for (Method method : Routes.class.getMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    @BeforeEach
+    void setUp() {
+        router = new Router();
+        Routes routes = new Routes();
+        router.registerRoute(HttpMethod.GET, "/items/:id/:slug", routes, handler("item"), 200);
+        router.registerRoute(HttpMethod.GET, "/archive/page/*", routes, handler("legacy"), 200);
+        router.registerRoute(HttpMethod.GET, "/archive/*", routes, handler("legacy"), 200);
+        router.registerRoute(HttpMethod.GET, "/search", routes, handler("search"), 200);
+        router.registerRoute(HttpMethod.POST, "/items", routes, handler("create"), 201);
+        router.registerRoute(HttpMethod.POST, "/items/batch", routes, handler("createMany"), 201);
+        router.registerRoute(HttpMethod.GET, "/none", routes, handler("none"), 200);
+    }
+
+    @Test
+    void convertsPathCapturesToTheParameterType() throws Exception {
+        assertArrayEquals(new Object[]{42L, "red-chair"},
+                bind(HttpMethod.GET, "/items/42/red-chair", exchange("/items/42/red-chair", null, null, "")));
+    }
+
+    @Test
+    void fallsBackToTheNameValueScanForUnknownParams() throws Exception {
+        assertArrayEquals(new Object[]{3}, bind(HttpMethod.GET, "/archive/page/3", exchange("/archive/page/3", null, null, "")));
+        assertArrayEquals(new Object[]{null}, bind(HttpMethod.GET, "/archive/x", exchange("/archive/x", null, null, "")));
+    }
+
+    @Test
+    void mapsQueryStringsOntoDtoFields() throws Exception {
+        Object[] arguments = bind(HttpMethod.GET, "/search", exchange("/search", "term=lamp&page=2&exact=true&ignored=1", null, ""));
+
+        SearchDto query = (SearchDto) arguments[0];
+        assertEquals("lamp", query.term);
+        assertEquals(2, query.page);
+        assertTrue(query.exact);
+        assertNull(arguments[1]);
+
+        SearchDto empty = (SearchDto) bind(HttpMethod.GET, "/search", exchange("/search", null, null, ""))[0];
+        assertNull(empty.term);
+        assertEquals(0, empty.page);
+    }
+
+    @Test
+    void rejectsQueryValuesOfTheWrongType() {
+        assertThrows(NumberFormatException.class, () -> bind(HttpMethod.GET, "/search", exchange("/search", "page=two", null, "")));
+    }
+
+    @Test
+    void readsJsonBodiesIncludingGenericTypes() throws Exception {
+        ItemDto item = (ItemDto) bind(HttpMethod.POST, "/items",
+                exchange("/items", null, "application/json", "{\"name\":\"lamp\",\"price\":9.5}"))[0];
+        assertEquals("lamp", item.name);
+        assertEquals(9.5, item.price);
+
+        @SuppressWarnings("unchecked")
+        List<ItemDto> items = (List<ItemDto>) bind(HttpMethod.POST, "/items/batch",
+                exchange("/items/batch", null, "application/json", "[{\"name\":\"a\"},{\"name\":\"b\"}]"))[0];
+        assertEquals(List.of("a", "b"), items.stream().map(dto -> dto.name).toList());
+    }
+
+    @Test
+    void mapsUrlEncodedBodiesOntoDtoFields() throws Exception {
+        ItemDto item = (ItemDto) bind(HttpMethod.POST, "/items",
+                exchange("/items", null, "application/x-www-form-urlencoded", "name=lamp&price=12.25"))[0];
+
+        assertEquals("lamp", item.name);
+        assertEquals(12.25, item.price);
+    }
+
+    @Test
+    void rejectsUnsupportedContentTypes() {
+        assertThrows(IllegalArgumentException.class, () -> bind(HttpMethod.POST, "/items", exchange("/items", null, "text/csv", "a,b")));
+    }
+
+    @Test
+    void bindsNoArgumentsForParameterlessHandlers() throws Exception {
+        assertEquals(0, bind(HttpMethod.GET, "/none", exchange("/none", null, null, "")).length);
+    }
+}
@@ -0,0 +1,154 @@
+package io.github._3xhaust.orm.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityCacheTest {
+    static class Box {
+        String value;
+
+        Box(String value) {
+            this.value = value;
+        }
+    }
+
+    private static EntityCache<Box> cache(int maxSize, long ttlMillis) {
+        return new EntityCache<>(maxSize, ttlMillis, box -> new Box(box.value));
+    }
+
+    @Test
+    void storesCopiesSoCallersCannotMutateCachedEntries() {
+        EntityCache<Box> cache = cache(10, 0);
+        Box original = new Box("a");
+        cache.put(1L, original);
+        original.value = "changed";
+
+        Box first = cache.get(1L);
+        first.value = "mutated";
+
+        assertEquals("a", cache.get(1L).value);
+        assertNotSame(first, cache.get(1L));
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntryOfASegment() {
+        // 32 entries spread over 16 segments of two; ids 0, 16 and 32 share segment 0.
+        EntityCache<Box> cache = cache(32, 0);
+        cache.put(0L, new Box("0"));
+        cache.put(16L, new Box("16"));
+        cache.get(0L);
+        cache.put(32L, new Box("32"));
+
+        assertNull(cache.get(16L));
+        assertEquals("0", cache.get(0L).value);
+        assertEquals("32", cache.get(32L).value);
+        assertEquals(1, cache.getStats().getEvictions());
+    }
+
+    @Test
+    void expiresEntriesAfterTheTtl() throws InterruptedException {
+        EntityCache<Box> cache = cache(10, 20);
+        cache.put(1L, new Box("a"));
+        assertNotNull(cache.get(1L));
+
+        Thread.sleep(40);
+
+        assertNull(cache.get(1L));
+        assertEquals(0, cache.getStats().getSize());
+    }
+
+    @Test
+    void keepsEntriesWithoutTtl() throws InterruptedException {
+        EntityCache<Box> cache = cache(10, 0);
+        cache.put(1L, new Box("a"));
+
+        Thread.sleep(20);
+
+        assertEquals("a", cache.get(1L).value);
+    }
+
+    @Test
+    void putIfAbsentKeepsTheNewerEntry() {
+        EntityCache<Box> cache = cache(10, 0);
+        cache.put(1L, new Box("written"));
+        cache.putIfAbsent(1L, new Box("loaded"));
+        cache.putIfAbsent(2L, new Box("loaded"));
+
+        assertEquals("written", cache.get(1L).value);
+        assertEquals("loaded", cache.get(2L).value);
+    }
+
+    @Test
+    void invalidatesSingleEntriesAndEverything() {
+        EntityCache<Box> cache = cache(10, 0);
+        for (long id = 1; id <= 5; id++) {
+            cache.put(id, new Box("v" + id));
+        }
+
+        cache.invalidate(3L);
+        assertNull(cache.get(3L));
+        assertNotNull(cache.get(4L));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.getStats().getSize());
+        assertNull(cache.get(4L));
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        EntityCache<Box> cache = cache(10, 0);
+        cache.put(1L, new Box("a"));
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        CacheStats stats = cache.getStats();
+        assertEquals(2, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(2.0 / 3, stats.getHitRate(), 1e-9);
+    }
+
+    @Test
+    void staysWithinMaxSizeUnderConcurrentAccess() throws Exception {
+        EntityCache<Box> cache = cache(64, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        long id = ThreadLocalRandom.current().nextLong(256);
+                        Box cached = cache.get(id);
+                        if (cached == null) {
+                            cache.putIfAbsent(id, new Box(Long.toString(id)));
+                        } else {
+                            assertEquals(Long.toString(id), cached.value);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        CacheStats stats = cache.getStats();
+        assertTrue(stats.getSize() <= 64);
+        assertEquals(80_000, stats.getHits() + stats.getMisses());
+    }
+
+    @Test
+    void rejectsNonPositiveMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> cache(0, 0));
+    }
+}
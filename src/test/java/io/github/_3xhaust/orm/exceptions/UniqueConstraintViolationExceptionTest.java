@@ -0,0 +1,62 @@
+package io.github._3xhaust.orm.exceptions;
+
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.Index;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import io.github._3xhaust.orm.metadata.EntityMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UniqueConstraintViolationExceptionTest {
+    @Index(name = "uq_member_slug", columns = {"tenant", "slug"}, unique = true)
+    public static class Member {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column(name = "email_address", unique = true)
+        public String email;
+        @Column
+        public String tenant;
+        @Column
+        public String slug;
+
+        public Member() {
+        }
+    }
+
+    private static final EntityMetadata<Member> METADATA = EntityMetadata.of(Member.class);
+
+    private static List<String> columnsOf(SQLException e) {
+        UniqueConstraintViolationException violation = UniqueConstraintViolationException.from(e, METADATA);
+        assertNotNull(violation);
+        assertSame(e, violation.getCause());
+        return violation.getColumns();
+    }
+
+    @Test
+    void parsesSqliteMessages() {
+        assertEquals(List.of("email"), columnsOf(new SQLException(
+                "[SQLITE_CONSTRAINT_UNIQUE] A UNIQUE constraint failed (UNIQUE constraint failed: members.email_address)")));
+        assertEquals(List.of("tenant", "slug"), columnsOf(new SQLException(
+                "[SQLITE_CONSTRAINT_UNIQUE] A UNIQUE constraint failed (UNIQUE constraint failed: members.tenant, members.slug)")));
+    }
+
+    @Test
+    void parsesMysqlDuplicateEntries() {
+        assertEquals(List.of("email"), columnsOf(new SQLException(
+                "Duplicate entry 'a@example.com' for key 'members.email_address'", "23000", 1062)));
+        assertEquals(List.of("tenant", "slug"), columnsOf(new SQLException(
+                "Duplicate entry 't1-home' for key 'uq_member_slug'", "23000", 1062)));
+        assertEquals(List.of("id"), columnsOf(new SQLException(
+                "Duplicate entry '7' for key 'PRIMARY'", "23000", 1062)));
+    }
+
+    @Test
+    void ignoresOtherErrors() {
+        assertNull(UniqueConstraintViolationException.from(new SQLException("no such table: members"), METADATA));
+        assertNull(UniqueConstraintViolationException.from(new SQLException((String) null), METADATA));
+    }
+}
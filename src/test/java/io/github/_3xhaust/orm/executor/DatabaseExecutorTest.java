@@ -0,0 +1,87 @@
+package io.github._3xhaust.orm.executor;
+
+import io.github._3xhaust.server.ExecutorOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseExecutorTest {
+    private DatabaseExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    private DatabaseExecutor executor(Map<String, Object> options) {
+        executor = new DatabaseExecutor(new ExecutorOptions(options));
+        return executor;
+    }
+
+    @Test
+    void runsTasksOnNamedDaemonThreads() throws Exception {
+        executor(Map.of("threads", 2, "threadNamePrefix", "db"));
+
+        Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+        assertTrue(thread.getName().startsWith("db-"));
+        assertTrue(thread.isDaemon());
+        assertNotSame(Thread.currentThread(), thread);
+        assertEquals("2 platform threads", executor.getMetrics().getMode());
+    }
+
+    @Test
+    void rejectsWorkBeyondTheQueueCapacity() throws Exception {
+        executor(Map.of("threads", 1, "queueCapacity", 1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> running = executor.run(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = executor.submit(() -> "queued");
+        CompletableFuture<String> rejected = executor.submit(() -> "rejected");
+
+        ExecutionException failure = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+        assertEquals(1, executor.getMetrics().getQueuedTasks());
+        assertEquals(1, executor.getMetrics().getRejectedTasks());
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void reportsCompletedTasksAndFailures() throws Exception {
+        executor(Map.of("threads", 1));
+
+        executor.submit(() -> 1).get(5, TimeUnit.SECONDS);
+        CompletableFuture<Object> failed = executor.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        DatabaseExecutorMetrics metrics = executor.getMetrics();
+        assertEquals(2, metrics.getCompletedTasks());
+        assertEquals(0, metrics.getActiveTasks());
+        assertEquals(0, metrics.getQueuedTasks());
+        assertEquals(0, metrics.getRejectedTasks());
+        assertTrue(metrics.getMaxQueueWaitMillis() >= metrics.getAverageQueueWaitMillis());
+    }
+}
@@ -0,0 +1,79 @@
+package io.github._3xhaust.orm.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockIdGeneratorTest {
+    @Test
+    void handsOutConsecutiveIdsAndReservesOncePerBlock() {
+        AtomicInteger reservations = new AtomicInteger();
+        AtomicLong next = new AtomicLong(1);
+        BlockIdGenerator generator = new BlockIdGenerator(10, size -> {
+            reservations.incrementAndGet();
+            return next.getAndAdd(size);
+        });
+
+        for (long expected = 1; expected <= 25; expected++) {
+            assertEquals(expected, generator.nextId());
+        }
+        assertEquals(3, reservations.get());
+    }
+
+    @Test
+    void discardedBlocksAreNotReused() {
+        AtomicLong next = new AtomicLong(100);
+        BlockIdGenerator generator = new BlockIdGenerator(5, size -> next.getAndAdd(size));
+
+        assertEquals(100, generator.nextId());
+        generator.discardBlock();
+        assertEquals(105, generator.nextId());
+    }
+
+    @Test
+    void concurrentCallersNeverShareAnId() throws Exception {
+        AtomicLong next = new AtomicLong(1);
+        BlockIdGenerator generator = new BlockIdGenerator(7, size -> next.getAndAdd(size));
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 5000; j++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(40000, ids.size());
+    }
+
+    @Test
+    void rejectsNonPositiveAllocationSize() {
+        assertThrows(IllegalArgumentException.class, () -> new BlockIdGenerator(0, size -> 1));
+    }
+
+    @Test
+    void resolvesStrategyNames() {
+        assertEquals(IdStrategy.IDENTITY, IdStrategy.of("AUTO"));
+        assertEquals(IdStrategy.IDENTITY, IdStrategy.of("increment"));
+        assertEquals(IdStrategy.SEQUENCE, IdStrategy.of(" hilo "));
+        assertEquals(IdStrategy.CUSTOM, IdStrategy.of("com.example.SnowflakeGenerator"));
+    }
+}
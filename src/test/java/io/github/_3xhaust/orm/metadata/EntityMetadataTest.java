@@ -0,0 +1,156 @@
+package io.github._3xhaust.orm.metadata;
+
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.Index;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityMetadataTest {
+    public static class Invoice {
+        public static final String KIND = "invoice";
+
+        @PrimaryGeneratedColumn
+        private Long id;
+        @Column(name = "invoice_number", unique = true)
+        private String number;
+        @Column(type = "DECIMAL(10,2)")
+        private Double total;
+        @Column
+        private int lines;
+
+        private Invoice() {
+        }
+    }
+
+    public static class Broken {
+        @PrimaryGeneratedColumn
+        public Long id;
+
+        public Broken(Long id) {
+            this.id = id;
+        }
+    }
+
+    @Index(columns = {"customer", "issuedOn"})
+    @Index(name = "uq_order_reference", columns = {"customer", "ref"}, unique = true)
+    public static class Order {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column(index = true)
+        public String customer;
+        @Column(name = "issued_on")
+        public String issuedOn;
+        @Column(name = "reference")
+        @Index(name = "idx_reference_lookup")
+        public String ref;
+        @Column(unique = true, index = true)
+        public String code;
+
+        public Order() {
+        }
+    }
+
+    @Index(name = "dup", columns = "a")
+    @Index(name = "dup", columns = "b")
+    public static class DuplicateIndexes {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column
+        public String a;
+        @Column
+        public String b;
+
+        public DuplicateIndexes() {
+        }
+    }
+
+    @Index(unique = true)
+    public static class MissingIndexColumns {
+        @PrimaryGeneratedColumn
+        public Long id;
+
+        public MissingIndexColumns() {
+        }
+    }
+
+    private static final EntityMetadata<Invoice> METADATA = EntityMetadata.of(Invoice.class);
+
+    private static List<String> columnNames(List<ColumnMetadata> columns) {
+        return columns.stream().map(ColumnMetadata::getColumnName).toList();
+    }
+
+    @Test
+    void resolvesTableAndColumnsOnce() {
+        assertSame(METADATA, EntityMetadata.of(Invoice.class));
+        assertEquals("invoices", METADATA.getTableName());
+        assertEquals(List.of("id", "invoice_number", "total", "lines"), columnNames(METADATA.getColumns()));
+        assertEquals(List.of("invoice_number", "total", "lines"), columnNames(METADATA.getInsertColumns()));
+        assertEquals(List.of("invoice_number", "total", "lines"), columnNames(METADATA.getUpdateColumns()));
+        assertEquals("id", METADATA.getPrimaryKey().getColumnName());
+        assertEquals("number", METADATA.getColumnsByName().get("invoice_number").getPropertyName());
+    }
+
+    @Test
+    void mapsColumnTypes() {
+        assertEquals("TEXT", METADATA.getColumnsByProperty().get("number").getSqlType());
+        assertEquals("DECIMAL(10,2)", METADATA.getColumnsByProperty().get("total").getSqlType());
+        assertEquals("INTEGER", METADATA.getColumnsByProperty().get("lines").getSqlType());
+        assertTrue(METADATA.getColumnsByProperty().get("number").isUnique());
+    }
+
+    @Test
+    void prebuildsStatementTemplates() {
+        assertEquals("SELECT id, invoice_number, total, lines FROM invoices", METADATA.getSelectSql());
+        assertEquals("INSERT INTO invoices (invoice_number, total, lines) VALUES (?, ?, ?)", METADATA.getInsertSql());
+        assertEquals("UPDATE invoices SET invoice_number = ?, total = ?, lines = ? WHERE id = ?", METADATA.getUpdateSql());
+        assertEquals("DELETE FROM invoices WHERE id = ?", METADATA.getDeleteSql());
+        assertEquals("CREATE TABLE IF NOT EXISTS invoices (id INTEGER PRIMARY KEY AUTOINCREMENT, invoice_number TEXT UNIQUE, "
+                + "total DECIMAL(10,2), lines INTEGER)", METADATA.getCreateTableSql());
+    }
+
+    @Test
+    void accessesFieldsThroughHandles() {
+        Invoice invoice = METADATA.newInstance();
+        METADATA.setId(invoice, 7L);
+        METADATA.getColumnsByProperty().get("number").set(invoice, "INV-7");
+        METADATA.getColumnsByProperty().get("lines").set(invoice, 3);
+
+        assertEquals(7L, METADATA.getId(invoice));
+        assertEquals("INV-7", invoice.number);
+        assertEquals(3, METADATA.getColumnsByProperty().get("lines").get(invoice));
+    }
+
+    @Test
+    void resolvesWhereKeysByPropertyOrColumnName() {
+        assertEquals("invoice_number", METADATA.resolveColumnName("number"));
+        assertEquals("invoice_number", METADATA.resolveColumnName("invoice_number"));
+        assertEquals("lines", METADATA.resolveColumnName("lines"));
+    }
+
+    @Test
+    void requiresANoArgumentConstructor() {
+        RuntimeException failure = assertThrows(RuntimeException.class, () -> EntityMetadata.of(Broken.class));
+        assertTrue(failure.getMessage().contains("no-argument constructor"));
+    }
+
+    @Test
+    void resolvesFieldAndClassLevelIndexes() {
+        List<IndexMetadata> indexes = EntityMetadata.of(Order.class).getIndexes();
+
+        assertEquals(List.of("idx_orders_customer", "idx_reference_lookup", "idx_orders_customer_issued_on", "uq_order_reference"),
+                indexes.stream().map(IndexMetadata::getName).toList());
+        assertEquals("CREATE INDEX idx_orders_customer_issued_on ON orders (customer, issued_on)", indexes.get(2).getCreateSql());
+        assertEquals("CREATE UNIQUE INDEX uq_order_reference ON orders (customer, reference)", indexes.get(3).getCreateSql());
+        assertEquals(List.of("reference"), indexes.get(1).getColumnNames());
+    }
+
+    @Test
+    void rejectsInvalidIndexDeclarations() {
+        assertThrows(IllegalArgumentException.class, () -> EntityMetadata.of(DuplicateIndexes.class));
+        assertThrows(IllegalArgumentException.class, () -> EntityMetadata.of(MissingIndexColumns.class));
+    }
+}
@@ -0,0 +1,122 @@
+package io.github._3xhaust.orm.metadata;
+
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowMapperTest {
+    public static class Sample {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column
+        public String label;
+        @Column
+        public int count = 7;
+        @Column
+        public long total = 7;
+        @Column
+        public double ratio = 7;
+        @Column
+        public float weight = 7;
+        @Column
+        public Integer rank;
+        @Column
+        public Double score;
+
+        public Sample() {
+        }
+    }
+
+    private static final EntityMetadata<Sample> METADATA = EntityMetadata.of(Sample.class);
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(METADATA.getCreateTableSql());
+            statement.execute("INSERT INTO samples (label, count, total, ratio, weight, rank, score) VALUES ('full', 3, 9000000000, 0.5, 1.5, 2, 4.25)");
+            statement.execute("INSERT INTO samples (label, count, total, ratio, weight, rank, score) VALUES (NULL, NULL, NULL, NULL, NULL, NULL, NULL)");
+            statement.execute("INSERT INTO samples (label, count, total, ratio, weight, rank, score) VALUES ('zero', 0, 0, 0, 0, 0, 0)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    private Sample row(RowMapper<Sample> mapper, String sql) throws Exception {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            assertTrue(rs.next());
+            return mapper.map(rs);
+        }
+    }
+
+    @Test
+    void readsEveryColumnWithItsTypedReader() throws Exception {
+        Sample sample = row(METADATA.getRowMapper(), METADATA.getSelectSql() + " WHERE label = 'full'");
+
+        assertEquals(1L, sample.id);
+        assertEquals("full", sample.label);
+        assertEquals(3, sample.count);
+        assertEquals(9_000_000_000L, sample.total);
+        assertEquals(0.5, sample.ratio);
+        assertEquals(1.5f, sample.weight);
+        assertEquals(2, sample.rank);
+        assertEquals(4.25, sample.score);
+    }
+
+    @Test
+    void keepsPrimitiveDefaultsAndNullsWrappersOnSqlNull() throws Exception {
+        Sample sample = row(METADATA.getRowMapper(), METADATA.getSelectSql() + " WHERE id = 2");
+
+        assertNull(sample.label);
+        assertEquals(7, sample.count);
+        assertEquals(7L, sample.total);
+        assertEquals(7.0, sample.ratio);
+        assertEquals(7.0f, sample.weight);
+        assertNull(sample.rank);
+        assertNull(sample.score);
+    }
+
+    @Test
+    void distinguishesZeroFromNull() throws Exception {
+        Sample sample = row(METADATA.getRowMapper(), METADATA.getSelectSql() + " WHERE label = 'zero'");
+
+        assertEquals(0, sample.count);
+        assertEquals(0L, sample.total);
+        assertEquals(0.0, sample.ratio);
+        assertEquals(0.0f, sample.weight);
+        assertEquals(0, sample.rank);
+        assertEquals(0.0, sample.score);
+    }
+
+    @Test
+    void mapsProjectionsPositionallyAndCachesOneMapperPerShape() throws Exception {
+        List<ColumnMetadata> selection = List.of(
+                METADATA.getColumnsByProperty().get("score"),
+                METADATA.getColumnsByProperty().get("label"));
+        RowMapper<Sample> mapper = METADATA.rowMapper(selection);
+
+        Sample sample = row(mapper, "SELECT score, label FROM samples WHERE id = 1");
+
+        assertEquals(4.25, sample.score);
+        assertEquals("full", sample.label);
+        assertNull(sample.id);
+        assertEquals(7, sample.count);
+        assertSame(mapper, METADATA.rowMapper(List.copyOf(selection)));
+        assertSame(METADATA.getRowMapper(), METADATA.rowMapper(METADATA.getColumns()));
+    }
+}
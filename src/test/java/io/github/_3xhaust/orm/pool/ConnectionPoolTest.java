@@ -0,0 +1,140 @@
+package io.github._3xhaust.orm.pool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolTest {
+    @TempDir
+    Path directory;
+
+    private ConnectionPool pool;
+
+    private ConnectionPool open(Map<String, Object> options) {
+        pool = new ConnectionPool("jdbc:sqlite:" + directory.resolve("pool.db"), null, null, new PoolOptions(options));
+        return pool;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    @Test
+    void reusesReturnedConnections() throws SQLException {
+        ConnectionPool pool = open(Map.of("minSize", 0, "maxSize", 2));
+
+        for (int i = 0; i < 5; i++) {
+            try (Connection connection = pool.getConnection()) {
+                assertEquals(1, pool.getMetrics().getActiveConnections());
+                assertFalse(connection.isClosed());
+            }
+        }
+
+        PoolMetrics metrics = pool.getMetrics();
+        assertEquals(1, metrics.getCreatedConnections());
+        assertEquals(5, metrics.getAcquireCount());
+        assertEquals(0, metrics.getActiveConnections());
+        assertEquals(1, metrics.getIdleConnections());
+    }
+
+    @Test
+    void timesOutWhenEveryConnectionIsLeased() throws SQLException {
+        ConnectionPool pool = open(Map.of("minSize", 0, "maxSize", 1, "acquireTimeout", 50));
+
+        try (Connection held = pool.getConnection()) {
+            assertThrows(SQLTimeoutException.class, pool::getConnection);
+            assertEquals(1, pool.getMetrics().getAcquireTimeouts());
+        }
+        try (Connection connection = pool.getConnection()) {
+            assertFalse(connection.isClosed());
+        }
+    }
+
+    @Test
+    void returnedLeaseCannotBeUsedAgain() throws SQLException {
+        ConnectionPool pool = open(Map.of("minSize", 0, "maxSize", 1));
+
+        Connection connection = pool.getConnection();
+        connection.close();
+        connection.close();
+
+        assertTrue(connection.isClosed());
+        assertThrows(SQLException.class, connection::createStatement);
+        assertEquals(0, pool.getMetrics().getActiveConnections());
+    }
+
+    @Test
+    void rollsBackUncommittedWorkOnRelease() throws SQLException {
+        ConnectionPool pool = open(Map.of("minSize", 0, "maxSize", 1));
+        try (Connection connection = pool.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t (v INTEGER)");
+        }
+
+        try (Connection connection = pool.getConnection(); Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            statement.execute("INSERT INTO t VALUES (1)");
+        }
+
+        try (Connection connection = pool.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM t")) {
+            assertTrue(connection.getAutoCommit());
+            resultSet.next();
+            assertEquals(0, resultSet.getInt(1));
+        }
+    }
+
+    @Test
+    void evictsIdleConnectionsAboveMinSize() throws Exception {
+        ConnectionPool pool = open(Map.of("minSize", 0, "maxSize", 2, "idleTimeout", 1));
+        pool.getConnection().close();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (pool.getMetrics().getEvictedConnections() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertEquals(1, pool.getMetrics().getEvictedConnections());
+        assertEquals(0, pool.getMetrics().getTotalConnections());
+    }
+
+    @Test
+    void rejectsMinSizeAboveMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> new PoolOptions(Map.of("minSize", 5, "maxSize", 2)));
+        assertThrows(IllegalArgumentException.class, () -> new PoolOptions(Map.of("acquireTimeout", -1)));
+    }
+
+    @Test
+    void refusesConnectionsAfterClose() {
+        ConnectionPool pool = open(Map.of("minSize", 0));
+        pool.close();
+
+        assertThrows(SQLException.class, pool::getConnection);
+    }
+
+    @Test
+    void closesConnectionsTheHousekeeperIsStillOpening() {
+        for (int i = 0; i < 20; i++) {
+            ConnectionPool pool = open(Map.of("minSize", 4, "maxSize", 4));
+            while (pool.getMetrics().getCreatedConnections() == 0) {
+                Thread.onSpinWait();
+            }
+            pool.close();
+
+            assertEquals(0, pool.getMetrics().getTotalConnections());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.github._3xhaust.orm.query;
+
+import io.github._3xhaust.orm.DataSourceOptions;
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import io.github._3xhaust.orm.repository.Repository;
+import io.github._3xhaust.orm.repository.RepositoryFactory;
+import io.github._3xhaust.orm.repository.RepositoryFactoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryBuilderTest {
+    public static class Person {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column
+        public String name;
+        @Column
+        public Integer age;
+        @Column(name = "city_name")
+        public String city;
+
+        public Person() {
+        }
+
+        Person(String name, Integer age, String city) {
+            this.name = name;
+            this.age = age;
+            this.city = city;
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    private RepositoryFactory factory;
+    private Repository<Person> repository;
+
+    @BeforeEach
+    void setUp() {
+        factory = new RepositoryFactoryImpl(DataSourceOptions.sqlite(directory.resolve("query.db").toString(), false).entities(Person.class));
+        repository = factory.getRepository(Person.class);
+        factory.synchronizeSchema();
+        repository.saveAll(List.of(
+                new Person("ann", 30, "seoul"),
+                new Person("bob", 17, "busan"),
+                new Person("cat", 45, "seoul"),
+                new Person("dan", 22, null),
+                new Person("eve", 60, "incheon")
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.getConnectionPool().close();
+    }
+
+    private static List<String> names(List<Person> people) {
+        return people.stream().map(person -> person.name).toList();
+    }
+
+    @Test
+    void buildsParameterizedSqlWithGroupsOrderingAndLimit() {
+        QueryBuilder<Person> query = repository.query()
+                .gte("age", 18)
+                .or(group -> group.eq("city", "seoul").isNull("city_name"))
+                .orderBy("age", "desc")
+                .limit(10);
+
+        assertEquals("SELECT id, name, age, city_name FROM persons WHERE age >= ? AND (city_name = ? OR city_name IS NULL)"
+                + " ORDER BY age DESC LIMIT ?", query.toSql());
+        assertEquals(List.of("cat", "ann", "dan"), names(query.getMany()));
+    }
+
+    @Test
+    void pushesOperatorsDownToSql() {
+        assertEquals(List.of("bob", "eve"), names(repository.query().in("age", List.of(17, 60)).orderBy("name").getMany()));
+        assertEquals(List.of("ann", "dan"), names(repository.query().between("age", 20, 40).orderBy("name").getMany()));
+        assertEquals(List.of("ann", "cat", "dan"), names(repository.query().like("name", "%a%").orderBy("name").getMany()));
+        assertEquals(4, repository.query().ne("city", null).count());
+        assertEquals(1, repository.query().eq("city", null).count());
+        assertEquals(0, repository.query().in("id", List.of()).count());
+        assertEquals(5, repository.query().notIn("id", List.of()).count());
+        assertTrue(repository.query().eq("name", "eve").exists());
+        assertFalse(repository.query().eq("name", "zed").exists());
+    }
+
+    @Test
+    void appliesLimitAndOffset() {
+        assertEquals(List.of("cat", "dan"), names(repository.query().orderBy("name").offset(2).limit(2).getMany()));
+        assertEquals(List.of("dan", "eve"), names(repository.query().orderBy("name").offset(3).getMany()));
+        assertEquals("bob", repository.query().orderBy("age").getOne().name);
+        assertNull(repository.query().eq("name", "zed").getOne());
+    }
+
+    @Test
+    void projectsOnlyTheSelectedColumns() {
+        List<Map<String, Object>> rows = repository.query().select("name", "city").eq("name", "ann").getRawMany();
+
+        assertEquals(List.of(Map.of("name", "ann", "city", "seoul")), rows);
+        assertEquals(List.of("name", "city"), List.copyOf(rows.get(0).keySet()));
+        assertTrue(repository.query().select("name").toSql().startsWith("SELECT name FROM persons"));
+    }
+
+    @Test
+    void savingAProjectedRowWritesOnlyTheColumnsItChanged() {
+        Person partial = repository.query().select("id", "name").eq("name", "ann").getOne();
+        assertNull(partial.age);
+        partial.name = "anna";
+        repository.save(partial);
+
+        List<Person> loaded = repository.query().select("id", "city").eq("name", "anna").getMany();
+        loaded.get(0).city = "daegu";
+        repository.saveAll(loaded);
+
+        Person stored = repository.findById(partial.id);
+        assertEquals("anna", stored.name);
+        assertEquals(30, stored.age);
+        assertEquals("daegu", stored.city);
+    }
+
+    @Test
+    void rejectsUnknownColumnsAndDirections() {
+        assertThrows(IllegalArgumentException.class, () -> repository.query().eq("name; DROP TABLE persons", 1));
+        assertThrows(IllegalArgumentException.class, () -> repository.query().select("password"));
+        assertThrows(IllegalArgumentException.class, () -> repository.query().orderBy("bogus"));
+        assertThrows(IllegalArgumentException.class, () -> repository.query().orderBy("name", "sideways"));
+        assertThrows(IllegalArgumentException.class, () -> repository.query().where("age", Operator.IN, 17));
+        assertThrows(IllegalArgumentException.class, () -> repository.query().limit(-1));
+        assertEquals(5, repository.query().count());
+    }
+}
@@ -0,0 +1,99 @@
+package io.github._3xhaust.orm.repository;
+
+import io.github._3xhaust.orm.DataSourceOptions;
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryAsyncTest {
+    public static class Ticket {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column
+        public String title;
+
+        public Ticket() {
+        }
+
+        Ticket(String title) {
+            this.title = title;
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    private RepositoryFactory factory;
+    private Repository<Ticket> repository;
+
+    @BeforeEach
+    void setUp() {
+        factory = new RepositoryFactoryImpl(DataSourceOptions.sqlite(directory.resolve("async.db").toString(), false)
+                .entities(Ticket.class)
+                .executor(Map.of("threads", 2)));
+        repository = factory.getRepository(Ticket.class);
+        factory.synchronizeSchema();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.getConnectionPool().close();
+    }
+
+    @Test
+    void savesAndReadsOnTheDatabaseExecutor() throws Exception {
+        Ticket saved = repository.saveAsync(new Ticket("first")).get(5, TimeUnit.SECONDS);
+        repository.saveAllAsync(List.of(new Ticket("second"), new Ticket("third"))).get(5, TimeUnit.SECONDS);
+
+        assertNotNull(saved.id);
+        assertEquals("first", repository.findByIdAsync(saved.id).get(5, TimeUnit.SECONDS).title);
+        assertEquals(3, repository.findAsync().get(5, TimeUnit.SECONDS).size());
+        assertEquals(1, repository.findOneAsync(Map.of("title", "third")).get(5, TimeUnit.SECONDS).size());
+        assertEquals("2 platform threads", factory.getDatabaseExecutor().getMetrics().getMode());
+        assertTrue(factory.getDatabaseExecutor().getMetrics().getCompletedTasks() >= 3);
+    }
+
+    @Test
+    void runsQueriesOffTheCallingThread() throws Exception {
+        String caller = Thread.currentThread().getName();
+
+        String worker = factory.getDatabaseExecutor().submit(() -> {
+            repository.save(new Ticket("on worker"));
+            return Thread.currentThread().getName();
+        }).get(5, TimeUnit.SECONDS);
+
+        assertNotEquals(caller, worker);
+        assertTrue(worker.startsWith("avnoi-db-"));
+        assertEquals(1, repository.find().size());
+    }
+
+    @Test
+    void deletesAsynchronously() throws Exception {
+        Ticket saved = repository.save(new Ticket("doomed"));
+
+        repository.deleteAsync(saved).get(5, TimeUnit.SECONDS);
+
+        assertTrue(repository.find().isEmpty());
+    }
+
+    @Test
+    void runsInlineInsideATransactionAndRollsBackWithIt() {
+        assertThrows(IllegalStateException.class, () -> factory.transaction(transaction -> {
+            Ticket saved = repository.saveAsync(new Ticket("rolled back")).join();
+            assertEquals("rolled back", repository.findByIdAsync(saved.id).join().title);
+            throw new IllegalStateException("abort");
+        }));
+
+        assertTrue(repository.find().isEmpty());
+    }
+}
@@ -0,0 +1,118 @@
+package io.github._3xhaust.orm.repository;
+
+import io.github._3xhaust.orm.DataSourceOptions;
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryBatchTest {
+    public static class Note {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column(unique = true)
+        public String code;
+        @Column
+        public String body;
+
+        public Note() {
+        }
+
+        Note(String code, String body) {
+            this.code = code;
+            this.body = body;
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    private RepositoryFactory factory;
+    private Repository<Note> repository;
+
+    @BeforeEach
+    void setUp() {
+        factory = new RepositoryFactoryImpl(DataSourceOptions.sqlite(directory.resolve("batch.db").toString(), false)
+                .entities(Note.class)
+                .batchSize(3));
+        repository = factory.getRepository(Note.class);
+        factory.synchronizeSchema();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.getConnectionPool().close();
+    }
+
+    private static List<Note> notes(int from, int to) {
+        return new ArrayList<>(IntStream.range(from, to).mapToObj(i -> new Note("n" + i, "body " + i)).toList());
+    }
+
+    private List<String> bodies() {
+        return repository.find().stream().map(note -> note.body).sorted().toList();
+    }
+
+    @Test
+    void assignsGeneratedIdsAcrossBatchFlushes() {
+        List<Note> notes = notes(0, 8);
+
+        List<Note> saved = repository.saveAll(notes);
+
+        assertEquals(8, saved.size());
+        assertEquals(8, new HashSet<>(saved.stream().map(note -> note.id).toList()).size());
+        saved.forEach(note -> assertNotNull(note.id));
+        assertEquals(8, repository.find().size());
+        assertEquals("body 5", repository.findOne(Map.of("id", saved.get(5).id)).get(0).body);
+    }
+
+    @Test
+    void mixesInsertsAndUpdates() {
+        List<Note> existing = repository.saveAll(notes(0, 4));
+        existing.forEach(note -> note.body = note.body + " edited");
+
+        List<Note> batch = new ArrayList<>(existing);
+        batch.addAll(notes(4, 6));
+        repository.saveAll(batch);
+
+        assertEquals(List.of("body 0 edited", "body 1 edited", "body 2 edited", "body 3 edited", "body 4", "body 5"), bodies());
+    }
+
+    @Test
+    void deletesInChunks() {
+        List<Note> saved = repository.saveAll(notes(0, 7));
+
+        repository.deleteAll(saved.subList(0, 5));
+
+        assertEquals(List.of("body 5", "body 6"), bodies());
+        repository.deleteAll(List.of());
+        assertEquals(2, repository.find().size());
+    }
+
+    @Test
+    void rollsBackTheWholeCallWhenARowFails() {
+        repository.save(new Note("taken", "existing"));
+        List<Note> batch = notes(0, 4);
+        batch.add(new Note("taken", "duplicate"));
+
+        assertThrows(RuntimeException.class, () -> repository.saveAll(batch));
+
+        assertEquals(List.of("existing"), bodies());
+        batch.forEach(note -> assertNull(note.id));
+    }
+
+    @Test
+    void rejectsNonPositiveBatchSizes() {
+        assertThrows(IllegalArgumentException.class, () -> DataSourceOptions.sqlite("x.db", false).batchSize(0));
+    }
+}
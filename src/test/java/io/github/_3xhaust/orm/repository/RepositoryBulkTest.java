@@ -0,0 +1,123 @@
+package io.github._3xhaust.orm.repository;
+
+import io.github._3xhaust.orm.DataSourceOptions;
+import io.github._3xhaust.orm.annotations.Cacheable;
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import io.github._3xhaust.orm.metadata.EntityMetadata;
+import io.github._3xhaust.orm.query.BulkStatement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryBulkTest {
+    @Cacheable(maxSize = 100)
+    public static class Task {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column
+        public String title;
+        @Column
+        public String status;
+        @Column(name = "due_day")
+        public Integer due;
+
+        public Task() {
+        }
+
+        Task(String title, String status, Integer due) {
+            this.title = title;
+            this.status = status;
+            this.due = due;
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    private RepositoryFactory factory;
+    private Repository<Task> repository;
+
+    @BeforeEach
+    void setUp() {
+        factory = new RepositoryFactoryImpl(DataSourceOptions.sqlite(directory.resolve("bulk.db").toString(), false).entities(Task.class));
+        repository = factory.getRepository(Task.class);
+        factory.synchronizeSchema();
+        repository.saveAll(List.of(
+                new Task("a", "open", 1),
+                new Task("b", "open", 5),
+                new Task("c", "done", 2),
+                new Task("d", "open", 9)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.getConnectionPool().close();
+    }
+
+    private List<String> titles(Map<String, Object> where) {
+        return repository.findOne(where).stream().map(task -> task.title).sorted().toList();
+    }
+
+    @Test
+    void buildsParameterizedStatements() {
+        EntityMetadata<Task> metadata = EntityMetadata.of(Task.class);
+
+        BulkStatement update = BulkStatement.update(metadata, group -> group.lt("due", 3), Map.of("status", "late"));
+        assertEquals("UPDATE tasks SET status = ? WHERE due_day < ?", update.getSql());
+        assertEquals(List.of("late", 3), update.getParams());
+
+        BulkStatement delete = BulkStatement.delete(metadata, BulkStatement.matching(Map.of("status", List.of("done", "late"))));
+        assertEquals("DELETE FROM tasks WHERE status IN (?, ?)", delete.getSql());
+        assertEquals(List.of("done", "late"), delete.getParams());
+    }
+
+    @Test
+    void updatesAndDeletesMatchingRows() {
+        assertEquals(2, repository.updateWhere(group -> group.lt("due", 3), Map.of("status", "late")));
+        assertEquals(List.of("a", "c"), titles(Map.of("status", "late")));
+
+        assertEquals(2, repository.updateWhere(Map.of("status", "open"), Map.of("status", "closed", "due", 0)));
+        assertEquals(List.of("b", "d"), titles(Map.of("due", 0)));
+
+        assertEquals(2, repository.deleteWhere(Map.of("status", "late")));
+        assertEquals(1, repository.deleteWhere(group -> group.eq("title", "b")));
+        assertEquals(0, repository.deleteWhere(group -> group.eq("title", "zzz")));
+        assertEquals(List.of("d"), titles(Map.of("status", List.of("open", "closed", "late"))));
+    }
+
+    @Test
+    void rejectsStatementsThatCouldTouchTheWholeTable() {
+        assertThrows(IllegalArgumentException.class, () -> repository.deleteWhere(Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> repository.deleteWhere(group -> {
+        }));
+        assertThrows(IllegalArgumentException.class, () -> repository.updateWhere(Map.of("status", "open"), Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> repository.updateWhere(Map.of("status", "open"), Map.of("id", 1L)));
+        assertThrows(IllegalArgumentException.class, () -> repository.updateWhere(Map.of("priority", 1), Map.of("status", "x")));
+        assertEquals(4, repository.find().size());
+    }
+
+    @Test
+    void dropsCachedEntitiesAndSnapshotsTouchedByTheStatement() {
+        Task cached = repository.findOne(Map.of("title", "a")).get(0);
+        assertEquals("open", repository.findById(cached.id).status);
+
+        repository.updateWhere(Map.of("title", "a"), Map.of("status", "archived"));
+        assertEquals("archived", repository.findById(cached.id).status);
+
+        cached.status = "open";
+        repository.save(cached);
+        assertEquals("open", repository.findById(cached.id).status);
+
+        repository.deleteWhere(Map.of("title", "a"));
+        assertNull(repository.findById(cached.id));
+    }
+}
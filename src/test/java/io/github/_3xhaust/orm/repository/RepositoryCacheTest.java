@@ -0,0 +1,109 @@
+package io.github._3xhaust.orm.repository;
+
+import io.github._3xhaust.orm.DataSourceOptions;
+import io.github._3xhaust.orm.annotations.Cacheable;
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryCacheTest {
+    @Cacheable(maxSize = 100)
+    public static class Item {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column
+        public String name;
+
+        public Item() {
+        }
+
+        Item(String name) {
+            this.name = name;
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    private RepositoryFactory factory;
+    private Repository<Item> repository;
+
+    @BeforeEach
+    void setUp() {
+        factory = new RepositoryFactoryImpl(DataSourceOptions.sqlite(directory.resolve("cache.db").toString(), false).entities(Item.class));
+        repository = factory.getRepository(Item.class);
+        factory.synchronizeSchema();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.getConnectionPool().close();
+    }
+
+    private String nameSeenByAnotherThread(Long id) {
+        return CompletableFuture.supplyAsync(() -> repository.findById(id).name).join();
+    }
+
+    @Test
+    void fillsTheCacheOnSaveOutsideTransactions() {
+        Item item = repository.save(new Item("a"));
+
+        assertEquals("a", repository.findById(item.id).name);
+        assertEquals(1, repository.getCacheStats().getHits());
+    }
+
+    @Test
+    void hidesTransactionalWritesFromOtherThreadsUntilCommit() {
+        Item item = repository.save(new Item("before"));
+
+        factory.transaction(transaction -> {
+            Item loaded = repository.findById(item.id);
+            loaded.name = "after";
+            repository.save(loaded);
+            assertEquals("after", repository.findById(item.id).name);
+            assertEquals("before", nameSeenByAnotherThread(item.id));
+            return null;
+        });
+
+        long hits = repository.getCacheStats().getHits();
+        assertEquals("after", nameSeenByAnotherThread(item.id));
+        assertEquals(hits + 1, repository.getCacheStats().getHits());
+    }
+
+    @Test
+    void neverCachesRolledBackWrites() {
+        Item item = repository.save(new Item("kept"));
+
+        assertThrows(IllegalStateException.class, () -> factory.transaction(transaction -> {
+            Item loaded = repository.findById(item.id);
+            loaded.name = "discarded";
+            repository.save(loaded);
+            throw new IllegalStateException("rollback");
+        }));
+
+        assertEquals("kept", repository.findById(item.id).name);
+        assertEquals("kept", nameSeenByAnotherThread(item.id));
+    }
+
+    @Test
+    void evictsDeletedEntities() {
+        Item item = repository.save(new Item("gone"));
+        repository.findById(item.id);
+
+        factory.transaction(transaction -> {
+            repository.delete(repository.findById(item.id));
+            return null;
+        });
+
+        assertNull(repository.findById(item.id));
+        assertEquals(0, repository.getCacheStats().getSize());
+    }
+}
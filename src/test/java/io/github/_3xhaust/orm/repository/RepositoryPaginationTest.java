@@ -0,0 +1,100 @@
+package io.github._3xhaust.orm.repository;
+
+import io.github._3xhaust.orm.DataSourceOptions;
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import io.github._3xhaust.orm.pagination.Page;
+import io.github._3xhaust.orm.pagination.PageRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryPaginationTest {
+    public static class Ranked {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column
+        public Integer score;
+
+        public Ranked() {
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    private RepositoryFactory factory;
+    private Repository<Ranked> repository;
+
+    @BeforeEach
+    void setUp() {
+        factory = new RepositoryFactoryImpl(DataSourceOptions.sqlite(directory.resolve("page.db").toString(), false).entities(Ranked.class));
+        repository = factory.getRepository(Ranked.class);
+        factory.synchronizeSchema();
+
+        // Scores 3, null, 1, null, 2, ... so NULLs and ties straddle page boundaries.
+        List<Ranked> rows = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            Ranked ranked = new Ranked();
+            ranked.score = i % 2 == 1 ? null : i % 4;
+            rows.add(ranked);
+        }
+        repository.saveAll(rows);
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.getConnectionPool().close();
+    }
+
+    private List<Long> readAll(String sort, String order, int limit) {
+        List<Long> ids = new ArrayList<>();
+        Page<Ranked> page = repository.findPage(PageRequest.of(limit).sortBy(sort, order));
+        while (true) {
+            page.getItems().forEach(ranked -> ids.add(ranked.id));
+            if (!page.isHasNext()) {
+                return ids;
+            }
+            page = repository.findPage(PageRequest.after(page.getNextCursor(), limit).sortBy(sort, order));
+        }
+    }
+
+    private List<Long> readWithOffset(String sort, String order) {
+        List<Long> ids = new ArrayList<>();
+        repository.findPage(PageRequest.of(100, 0).sortBy(sort, order)).getItems().forEach(ranked -> ids.add(ranked.id));
+        return ids;
+    }
+
+    @Test
+    void cursorPagesVisitEveryRowByPrimaryKey() {
+        List<Long> ids = readAll(null, null, 7);
+
+        assertEquals(25, ids.size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i) > ids.get(i - 1));
+        }
+        assertEquals(readWithOffset("id", "desc"), readAll("id", "desc", 4));
+    }
+
+    @Test
+    void cursorPagesContinuePastNullSortValues() {
+        assertEquals(readWithOffset("score", "asc"), readAll("score", "asc", 3));
+        assertEquals(readWithOffset("score", "desc"), readAll("score", "desc", 3));
+        assertEquals(25, readAll("score", "desc", 5).size());
+    }
+
+    @Test
+    void rejectsCursorIssuedForAnotherSort() {
+        Page<Ranked> page = repository.findPage(PageRequest.of(5).sortBy("score", "asc"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.findPage(PageRequest.after(page.getNextCursor(), 5)));
+    }
+}
@@ -0,0 +1,96 @@
+package io.github._3xhaust.orm.repository;
+
+import io.github._3xhaust.orm.DataSourceOptions;
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import io.github._3xhaust.orm.pool.ConnectionPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryStreamTest {
+    public static class Reading {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column
+        public String sensor;
+        @Column
+        public Integer value;
+
+        public Reading() {
+        }
+
+        Reading(String sensor, Integer value) {
+            this.sensor = sensor;
+            this.value = value;
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    private RepositoryFactory factory;
+    private ConnectionPool connectionPool;
+    private Repository<Reading> repository;
+
+    @BeforeEach
+    void setUp() {
+        factory = new RepositoryFactoryImpl(DataSourceOptions.sqlite(directory.resolve("stream.db").toString(), false)
+                .entities(Reading.class)
+                .fetchSize(4));
+        connectionPool = factory.getConnectionPool();
+        repository = factory.getRepository(Reading.class);
+        factory.synchronizeSchema();
+        repository.saveAll(IntStream.range(0, 10).mapToObj(i -> new Reading(i % 2 == 0 ? "even" : "odd", i)).toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionPool.close();
+    }
+
+    @Test
+    void streamsEveryRowAndReleasesTheConnectionWhenExhausted() {
+        List<Integer> values;
+        try (Stream<Reading> stream = repository.stream()) {
+            values = stream.map(reading -> reading.value).toList();
+        }
+
+        assertEquals(IntStream.range(0, 10).boxed().toList(), values);
+        assertEquals(0, connectionPool.getMetrics().getActiveConnections());
+    }
+
+    @Test
+    void filtersByTheWhereMap() {
+        try (Stream<Reading> stream = repository.stream(Map.of("sensor", "odd"))) {
+            assertEquals(List.of(1, 3, 5, 7, 9), stream.map(reading -> reading.value).toList());
+        }
+    }
+
+    @Test
+    void mapsRowsLazilyAndReleasesTheConnectionOnClose() {
+        Stream<Reading> stream = repository.stream();
+        Iterator<Reading> iterator = stream.iterator();
+        assertEquals(0, iterator.next().value);
+        assertEquals(1, connectionPool.getMetrics().getActiveConnections());
+
+        stream.close();
+
+        assertEquals(0, connectionPool.getMetrics().getActiveConnections());
+    }
+
+    @Test
+    void rejectsNonPositiveFetchSizes() {
+        assertThrows(IllegalArgumentException.class, () -> DataSourceOptions.sqlite("x.db", false).fetchSize(0));
+    }
+}
@@ -0,0 +1,117 @@
+package io.github._3xhaust.orm.repository;
+
+import io.github._3xhaust.orm.DataSourceOptions;
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.Index;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import io.github._3xhaust.orm.exceptions.UniqueConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryUpsertTest {
+    @Index(columns = {"tenant", "slug"}, unique = true)
+    public static class Account {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column(name = "email_address", unique = true)
+        public String email;
+        @Column
+        public String name;
+        @Column
+        public String tenant;
+        @Column
+        public String slug;
+
+        public Account() {
+        }
+
+        Account(String email, String name) {
+            this.email = email;
+            this.name = name;
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    private RepositoryFactory factory;
+    private Repository<Account> repository;
+
+    @BeforeEach
+    void setUp() {
+        factory = new RepositoryFactoryImpl(DataSourceOptions.sqlite(directory.resolve("upsert.db").toString(), false).entities(Account.class));
+        repository = factory.getRepository(Account.class);
+        factory.synchronizeSchema();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.getConnectionPool().close();
+    }
+
+    @Test
+    void reportsDuplicateUniqueColumnsByPropertyName() {
+        repository.save(new Account("a@example.com", "first"));
+
+        UniqueConstraintViolationException violation = assertThrows(UniqueConstraintViolationException.class,
+                () -> repository.save(new Account("a@example.com", "second")));
+
+        assertEquals(Account.class, violation.getEntityClass());
+        assertEquals(List.of("email"), violation.getColumns());
+        assertEquals(1, repository.find().size());
+    }
+
+    @Test
+    void reportsEveryColumnOfACompositeUniqueIndex() {
+        Account first = new Account("a@example.com", "first");
+        first.tenant = "t1";
+        first.slug = "home";
+        repository.save(first);
+
+        Account clash = new Account("b@example.com", "second");
+        clash.tenant = "t1";
+        clash.slug = "home";
+        UniqueConstraintViolationException violation = assertThrows(UniqueConstraintViolationException.class, () -> repository.save(clash));
+
+        assertEquals(List.of("tenant", "slug"), violation.getColumns());
+    }
+
+    @Test
+    void rollsBackTheWholeBatchOnAConflict() {
+        repository.save(new Account("taken@example.com", "existing"));
+
+        assertThrows(UniqueConstraintViolationException.class, () -> repository.saveAll(List.of(
+                new Account("new@example.com", "new"),
+                new Account("taken@example.com", "duplicate")
+        )));
+
+        assertEquals(List.of("existing"), repository.find().stream().map(account -> account.name).toList());
+    }
+
+    @Test
+    void upsertInsertsThenUpdatesTheConflictingRow() {
+        Account inserted = repository.upsert(new Account("a@example.com", "first"), "email");
+        assertNotNull(inserted.id);
+
+        Account updated = repository.upsert(new Account("a@example.com", "renamed"), "email");
+
+        assertEquals(inserted.id, updated.id);
+        List<Account> accounts = repository.find();
+        assertEquals(1, accounts.size());
+        assertEquals("renamed", accounts.get(0).name);
+        assertEquals(1, repository.findOne(Map.of("email", "a@example.com")).size());
+    }
+
+    @Test
+    void upsertRejectsUnknownConflictColumns() {
+        assertThrows(IllegalArgumentException.class, () -> repository.upsert(new Account("a@example.com", "first"), "nickname"));
+    }
+}
@@ -0,0 +1,218 @@
+package io.github._3xhaust.orm.schema;
+
+import io.github._3xhaust.orm.DataSourceOptions;
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.Index;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import io.github._3xhaust.orm.repository.RepositoryFactory;
+import io.github._3xhaust.orm.repository.RepositoryFactoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaSynchronizerTest {
+    public static class Author {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column
+        public String name;
+        @Column(name = "pen_name")
+        public String penName;
+
+        public Author() {
+        }
+    }
+
+    public static class Book {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column
+        public String title;
+
+        public Book() {
+        }
+    }
+
+    public static class Shelf {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column
+        public String label;
+
+        public Shelf() {
+        }
+    }
+
+    @Index(columns = {"author", "title"}, unique = true)
+    public static class Edition {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column
+        public String author;
+        @Column
+        public String title;
+        @Column(index = true)
+        public Integer year;
+
+        public Edition() {
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    private final List<RepositoryFactory> factories = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        factories.forEach(factory -> factory.getConnectionPool().close());
+    }
+
+    private RepositoryFactory factory(DataSourceOptions options) {
+        RepositoryFactory factory = new RepositoryFactoryImpl(options);
+        factories.add(factory);
+        return factory;
+    }
+
+    private DataSourceOptions options() {
+        return DataSourceOptions.sqlite(directory.resolve("schema.db").toString(), false);
+    }
+
+    private Connection connect() throws Exception {
+        return DriverManager.getConnection("jdbc:sqlite:" + directory.resolve("schema.db"));
+    }
+
+    private boolean tableExists(String table) throws Exception {
+        try (Connection connection = connect();
+             ResultSet rs = connection.getMetaData().getTables(null, null, table, null)) {
+            return rs.next();
+        }
+    }
+
+    @Test
+    void createsMissingTablesThenVerifiesThem() {
+        RepositoryFactory first = factory(options().entities(Author.class, Book.class));
+        first.synchronizeSchema();
+
+        Map<Class<?>, SchemaSyncResult> created = first.getSchemaSyncResults();
+        assertEquals(SchemaSyncResult.Status.CREATED, created.get(Author.class).getStatus());
+        assertEquals(SchemaSyncResult.Status.CREATED, created.get(Book.class).getStatus());
+
+        RepositoryFactory second = factory(options().entities(Author.class, Book.class));
+        second.synchronizeSchema();
+
+        SchemaSyncResult verified = second.getSchemaSyncResults().get(Author.class);
+        assertEquals(SchemaSyncResult.Status.VERIFIED, verified.getStatus());
+        assertEquals("authors", verified.getTableName());
+        assertEquals(List.of(), verified.getMissingColumns());
+    }
+
+    @Test
+    void reportsColumnsMissingFromExistingTables() throws Exception {
+        RepositoryFactory factory = factory(options().entities(Author.class));
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE authors (id INTEGER PRIMARY KEY AUTOINCREMENT, NAME TEXT)");
+        }
+
+        factory.synchronizeSchema();
+
+        SchemaSyncResult result = factory.getSchemaSyncResults().get(Author.class);
+        assertEquals(SchemaSyncResult.Status.MISMATCH, result.getStatus());
+        assertEquals(List.of("pen_name"), result.getMissingColumns());
+        assertTrue(result.toString().startsWith("authors is missing columns [pen_name]"));
+    }
+
+    @Test
+    void includesRepositoriesRequestedBeforeBootAndSyncsLaterOnesOnCreation() throws Exception {
+        RepositoryFactory factory = factory(options().entities(Author.class));
+        factory.getRepository(Book.class);
+        factory.synchronizeSchema();
+
+        assertTrue(factory.getSchemaSyncResults().containsKey(Book.class));
+        assertFalse(tableExists("shelfs"));
+
+        factory.getRepository(Shelf.class);
+
+        assertEquals(SchemaSyncResult.Status.CREATED, factory.getSchemaSyncResults().get(Shelf.class).getStatus());
+        assertTrue(tableExists("shelfs"));
+    }
+
+    @Test
+    void synchronizesInParallel() throws Exception {
+        RepositoryFactory factory = factory(options().entities(Author.class, Book.class, Shelf.class).synchronize(true, true));
+        factory.synchronizeSchema();
+
+        assertEquals(3, factory.getSchemaSyncResults().size());
+        assertTrue(tableExists("authors"));
+        assertTrue(tableExists("books"));
+        assertTrue(tableExists("shelfs"));
+    }
+
+    @Test
+    void canBeTurnedOff() throws Exception {
+        RepositoryFactory factory = factory(options().entities(Author.class).synchronize(false));
+        factory.synchronizeSchema();
+        factory.getRepository(Book.class);
+
+        assertTrue(factory.getSchemaSyncResults().isEmpty());
+        assertFalse(tableExists("authors"));
+        assertFalse(tableExists("books"));
+    }
+
+    private Set<String> indexNames(String table) throws Exception {
+        Set<String> names = new HashSet<>();
+        try (Connection connection = connect();
+             ResultSet rs = connection.getMetaData().getIndexInfo(null, null, table, false, false)) {
+            while (rs.next()) {
+                names.add(rs.getString("INDEX_NAME"));
+            }
+        }
+        return names;
+    }
+
+    @Test
+    void createsMissingIndexesThenVerifiesThem() throws Exception {
+        RepositoryFactory first = factory(options().entities(Edition.class));
+        first.synchronizeSchema();
+
+        SchemaSyncResult created = first.getSchemaSyncResults().get(Edition.class);
+        assertEquals(List.of("idx_editions_year", "idx_editions_author_title"), created.getCreatedIndexes());
+        assertTrue(indexNames("editions").containsAll(created.getCreatedIndexes()));
+
+        RepositoryFactory second = factory(options().entities(Edition.class));
+        second.synchronizeSchema();
+
+        SchemaSyncResult verified = second.getSchemaSyncResults().get(Edition.class);
+        assertEquals(List.of(), verified.getCreatedIndexes());
+        assertEquals(List.of("idx_editions_year", "idx_editions_author_title"), verified.getVerifiedIndexes());
+    }
+
+    @Test
+    void skipsIndexesOnMissingColumns() throws Exception {
+        RepositoryFactory factory = factory(options().entities(Edition.class));
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE editions (id INTEGER PRIMARY KEY AUTOINCREMENT, author TEXT, title TEXT)");
+        }
+
+        factory.synchronizeSchema();
+
+        SchemaSyncResult result = factory.getSchemaSyncResults().get(Edition.class);
+        assertEquals(List.of("year"), result.getMissingColumns());
+        assertEquals(List.of("idx_editions_author_title"), result.getCreatedIndexes());
+    }
+}
@@ -0,0 +1,117 @@
+package io.github._3xhaust.orm.tracking;
+
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import io.github._3xhaust.orm.metadata.EntityMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotStoreTest {
+    public static class Article {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column
+        public String title;
+        @Column
+        public int views;
+        @Column
+        public String body;
+
+        public Article() {
+        }
+
+        Article(Long id, String title) {
+            this.id = id;
+            this.title = title;
+        }
+
+        // Equal by id, so the store must still tell two instances of the same row apart.
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Article article && Objects.equals(id, article.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(id);
+        }
+    }
+
+    private EntityMetadata<Article> metadata;
+    private SnapshotStore<Article> store;
+
+    @BeforeEach
+    void setUp() {
+        metadata = EntityMetadata.of(Article.class);
+        store = new SnapshotStore<>(metadata.getUpdateColumns(), metadata.getFullUpdateMask());
+    }
+
+    private long bit(String property) {
+        return 1L << metadata.getUpdateColumns().indexOf(metadata.requireColumn(property));
+    }
+
+    @Test
+    void untrackedEntitiesAreFullyDirty() {
+        assertEquals(metadata.getFullUpdateMask(), store.dirtyMask(new Article(1L, "a")));
+        assertEquals(0b111, metadata.getFullUpdateMask());
+    }
+
+    @Test
+    void reportsExactlyTheChangedColumns() {
+        Article article = new Article(1L, "a");
+        store.track(article);
+        assertEquals(0, store.dirtyMask(article));
+
+        article.views = 3;
+        assertEquals(bit("views"), store.dirtyMask(article));
+
+        article.body = "text";
+        article.title = null;
+        assertEquals(bit("views") | bit("body") | bit("title"), store.dirtyMask(article));
+
+        store.track(article);
+        assertEquals(0, store.dirtyMask(article));
+    }
+
+    @Test
+    void comparesByIdentityNotEquals() {
+        Article tracked = new Article(1L, "a");
+        Article sameRow = new Article(1L, "a");
+        store.track(tracked);
+
+        assertEquals(0, store.dirtyMask(tracked));
+        assertEquals(metadata.getFullUpdateMask(), store.dirtyMask(sameRow));
+    }
+
+    @Test
+    void forgetAndClearDropSnapshots() {
+        Article first = new Article(1L, "a");
+        Article second = new Article(2L, "b");
+        store.track(first);
+        store.track(second);
+
+        store.forget(first);
+        assertEquals(metadata.getFullUpdateMask(), store.dirtyMask(first));
+        assertEquals(0, store.dirtyMask(second));
+
+        store.clear();
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void newMarkerIsFullyDirtyUntilTracked() {
+        Article article = new Article(5L, "a");
+        store.markNew(article);
+
+        assertTrue(store.isNew(article));
+        assertEquals(metadata.getFullUpdateMask(), store.dirtyMask(article));
+
+        store.track(article);
+        assertFalse(store.isNew(article));
+        assertEquals(0, store.dirtyMask(article));
+    }
+}
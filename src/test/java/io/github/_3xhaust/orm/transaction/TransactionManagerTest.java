@@ -0,0 +1,179 @@
+package io.github._3xhaust.orm.transaction;
+
+import io.github._3xhaust.orm.DataSourceOptions;
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import io.github._3xhaust.orm.exceptions.UnexpectedRollbackException;
+import io.github._3xhaust.orm.pool.ConnectionPool;
+import io.github._3xhaust.orm.repository.Repository;
+import io.github._3xhaust.orm.repository.RepositoryFactory;
+import io.github._3xhaust.orm.repository.RepositoryFactoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionManagerTest {
+    public static class Entry {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column
+        public String name;
+
+        public Entry() {
+        }
+
+        Entry(String name) {
+            this.name = name;
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    private RepositoryFactory factory;
+    private ConnectionPool connectionPool;
+    private Repository<Entry> repository;
+
+    @BeforeEach
+    void setUp() {
+        factory = new RepositoryFactoryImpl(DataSourceOptions.sqlite(directory.resolve("tx.db").toString(), false).entities(Entry.class));
+        connectionPool = factory.getConnectionPool();
+        repository = factory.getRepository(Entry.class);
+        factory.synchronizeSchema();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionPool.close();
+    }
+
+    private List<String> names() {
+        return repository.find().stream().map(entry -> entry.name).sorted().toList();
+    }
+
+    @Test
+    void commitsEveryWriteOfTheCallbackTogether() {
+        String result = factory.transaction(transaction -> {
+            repository.save(new Entry("a"));
+            transaction.getRepository(Entry.class).save(new Entry("b"));
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(List.of("a", "b"), names());
+        assertNull(connectionPool.getCurrentTransaction());
+    }
+
+    @Test
+    void rollsBackEveryWriteWhenTheCallbackThrows() {
+        repository.save(new Entry("kept"));
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> factory.transaction(transaction -> {
+            repository.save(new Entry("a"));
+            repository.save(new Entry("b"));
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals("boom", failure.getMessage());
+        assertEquals(List.of("kept"), names());
+        assertNull(connectionPool.getCurrentTransaction());
+    }
+
+    @Test
+    void wrapsCheckedExceptions() {
+        RuntimeException failure = assertThrows(RuntimeException.class, () -> factory.transaction(transaction -> {
+            repository.save(new Entry("a"));
+            throw new IOException("disk");
+        }));
+
+        assertInstanceOf(IOException.class, failure.getCause());
+        assertEquals(List.of(), names());
+    }
+
+    @Test
+    void nestedCallsJoinTheOuterTransaction() {
+        factory.transaction(outer -> {
+            repository.save(new Entry("outer"));
+            factory.transaction(inner -> {
+                assertSame(outer, inner);
+                repository.save(new Entry("inner"));
+                return null;
+            });
+            assertSame(outer, connectionPool.getCurrentTransaction());
+            return null;
+        });
+
+        assertEquals(List.of("inner", "outer"), names());
+    }
+
+    @Test
+    void repositoriesShareTheBoundConnection() throws Exception {
+        factory.transaction(transaction -> {
+            try (Connection first = connectionPool.getConnection(); Connection second = connectionPool.getConnection()) {
+                assertSame(transaction.getSharedConnection(), first);
+                assertSame(first, second);
+                first.close();
+                assertFalse(transaction.getConnection().isClosed());
+                assertFalse(transaction.getConnection().getAutoCommit());
+            }
+            return null;
+        });
+
+        try (Connection connection = connectionPool.getConnection()) {
+            assertTrue(connection.getAutoCommit());
+        }
+    }
+
+    @Test
+    void runsRollbackActionsOnlyOnRollback() {
+        List<String> actions = new ArrayList<>();
+        factory.transaction(transaction -> {
+            transaction.onRollback(() -> actions.add("committed"));
+            return null;
+        });
+        assertThrows(IllegalStateException.class, () -> factory.transaction(transaction -> {
+            transaction.onRollback(() -> actions.add("rolled back"));
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(List.of("rolled back"), actions);
+    }
+
+    @Test
+    void failsTheOuterTransactionWhenAJoinedCallFailed() {
+        repository.save(new Entry("kept"));
+
+        assertThrows(UnexpectedRollbackException.class, () -> factory.transaction(outer -> {
+            repository.save(new Entry("outer"));
+            try {
+                factory.transaction(inner -> {
+                    throw new IllegalStateException("inner");
+                });
+            } catch (IllegalStateException ignored) {
+            }
+            return null;
+        }));
+
+        assertEquals(List.of("kept"), names());
+    }
+
+    @Test
+    void failsWhenTheCallbackMarksItRollbackOnly() {
+        assertThrows(UnexpectedRollbackException.class, () -> factory.transaction(transaction -> {
+            repository.save(new Entry("a"));
+            transaction.setRollbackOnly();
+            return null;
+        }));
+
+        assertEquals(List.of(), names());
+    }
+}
@@ -0,0 +1,162 @@
+package io.github._3xhaust.orm.transaction;
+
+import io.github._3xhaust.orm.DataSourceOptions;
+import io.github._3xhaust.orm.annotations.Column;
+import io.github._3xhaust.orm.annotations.PrimaryGeneratedColumn;
+import io.github._3xhaust.orm.exceptions.UnexpectedRollbackException;
+import io.github._3xhaust.orm.exceptions.UniqueConstraintViolationException;
+import io.github._3xhaust.orm.repository.Repository;
+import io.github._3xhaust.orm.repository.RepositoryFactory;
+import io.github._3xhaust.orm.repository.RepositoryFactoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteQueueTest {
+    public static class Tag {
+        @PrimaryGeneratedColumn
+        public Long id;
+        @Column(unique = true)
+        public String name;
+
+        public Tag() {
+        }
+
+        Tag(String name) {
+            this.name = name;
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    private RepositoryFactory factory;
+    private Repository<Tag> repository;
+    private WriteQueue writeQueue;
+
+    @BeforeEach
+    void setUp() {
+        factory = new RepositoryFactoryImpl(DataSourceOptions.sqlite(directory.resolve("queue.db").toString(), false,
+                Map.of("singleWriter", true, "writeQueueCapacity", 4)).entities(Tag.class));
+        repository = factory.getRepository(Tag.class);
+        factory.synchronizeSchema();
+        writeQueue = factory.getWriteQueue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeQueue.close();
+        factory.getConnectionPool().close();
+    }
+
+    private List<String> names() {
+        return repository.find().stream().map(tag -> tag.name).sorted().toList();
+    }
+
+    @Test
+    void failedWriteRollsBackOnlyItsOwnSavepoint() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CompletableFuture<Object> gate = writeQueue.submit(transaction -> {
+            started.countDown();
+            blocked.await();
+            return null;
+        });
+        started.await();
+
+        // Queued behind the gate, these four run in one group commit.
+        CompletableFuture<Tag> first = writeQueue.submit(transaction -> repository.save(new Tag("a")));
+        CompletableFuture<Tag> duplicate = writeQueue.submit(transaction -> repository.save(new Tag("a")));
+        CompletableFuture<Object> partial = writeQueue.submit(transaction -> {
+            repository.save(new Tag("partial"));
+            throw new IOException("boom");
+        });
+        CompletableFuture<Tag> last = writeQueue.submit(transaction -> repository.save(new Tag("b")));
+        blocked.countDown();
+
+        gate.join();
+        assertNotNull(first.join().id);
+        assertNotNull(last.join().id);
+        CompletionException conflict = assertThrows(CompletionException.class, duplicate::join);
+        assertInstanceOf(UniqueConstraintViolationException.class, conflict.getCause());
+        assertInstanceOf(IOException.class, assertThrows(CompletionException.class, partial::join).getCause());
+
+        assertEquals(List.of("a", "b"), names());
+        assertEquals(2, writeQueue.getMetrics().getFailedWrites());
+    }
+
+    @Test
+    void executePropagatesFailuresLikeTheTransactionManager() {
+        UniqueConstraintViolationException violation = assertThrows(UniqueConstraintViolationException.class, () -> {
+            repository.save(new Tag("x"));
+            writeQueue.execute(transaction -> repository.save(new Tag("x")));
+        });
+        assertEquals(List.of("name"), violation.getColumns());
+
+        RuntimeException wrapped = assertThrows(RuntimeException.class, () -> factory.transaction(transaction -> {
+            repository.save(new Tag("y"));
+            throw new IOException("checked");
+        }));
+        assertInstanceOf(IOException.class, wrapped.getCause());
+        assertTrue(wrapped.getMessage().startsWith("Transaction failed"));
+        assertEquals(List.of("x"), names());
+    }
+
+    @Test
+    void rollbackOnlyDiscardsTheWriteAndFailsTheCaller() {
+        assertThrows(UnexpectedRollbackException.class, () -> writeQueue.execute(transaction -> {
+            Tag tag = repository.save(new Tag("discarded"));
+            transaction.setRollbackOnly();
+            return tag;
+        }));
+
+        assertEquals(List.of(), names());
+        assertEquals(1, writeQueue.getMetrics().getFailedWrites());
+    }
+
+    @Test
+    void rejectsWritesOnceTheQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CompletableFuture<Object> gate = writeQueue.submit(transaction -> {
+            started.countDown();
+            blocked.await();
+            return null;
+        });
+        started.await();
+
+        List<CompletableFuture<Tag>> queued = List.of("a", "b", "c", "d").stream()
+                .map(name -> writeQueue.submit(transaction -> repository.save(new Tag(name))))
+                .toList();
+        CompletableFuture<Tag> overflow = writeQueue.submit(transaction -> repository.save(new Tag("e")));
+        blocked.countDown();
+
+        gate.join();
+        queued.forEach(CompletableFuture::join);
+        assertInstanceOf(RejectedExecutionException.class, assertThrows(CompletionException.class, overflow::join).getCause());
+        assertEquals(List.of("a", "b", "c", "d"), names());
+    }
+
+    @Test
+    void refusesSubmissionsFromTheWriterThread() {
+        CompletableFuture<Tag> nested = writeQueue.submit(transaction -> repository.save(new Tag("outer")))
+                .thenCompose(outer -> writeQueue.submit(transaction -> repository.save(new Tag("inner"))));
+        CompletableFuture<CompletableFuture<Tag>> fromWriter = writeQueue.submit(transaction ->
+                writeQueue.submit(inner -> repository.save(new Tag("inner"))));
+
+        assertInstanceOf(IllegalStateException.class, assertThrows(CompletionException.class, fromWriter.join()::join).getCause());
+        assertEquals("inner", nested.join().name);
+    }
+}
@@ -0,0 +1,106 @@
+package io.github._3xhaust.routing;
+
+import io.github._3xhaust.annotations.Redirect;
+import io.github._3xhaust.annotations.http.Header;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteInvokerTest {
+    public static class Handlers {
+        final List<String> calls = new ArrayList<>();
+
+        public String greet(String name, int times) {
+            return name.repeat(times);
+        }
+
+        public int add(int a, long b) {
+            return (int) (a + b);
+        }
+
+        public void record(String call) {
+            calls.add(call);
+        }
+
+        public static String version() {
+            return "1";
+        }
+
+        public String fail() throws IOException {
+            throw new IOException("disk");
+        }
+
+        public String reject() {
+            throw new IllegalArgumentException("bad");
+        }
+
+        private String hidden() {
+            return "hidden";
+        }
+
+        @Header("Cache-Control: no-store")
+        @Redirect(url = "https://example.com", statusCode = 301)
+        public String moved() {
+            return "moved";
+        }
+    }
+
+    private final Handlers handlers = new Handlers();
+
+    private static Method method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return Handlers.class.getDeclaredMethod(name, parameterTypes);
+    }
+
+    @Test
+    void invokesBoundInstanceMethodsWithSpreadArguments() throws Exception {
+        assertEquals("abab", RouteInvoker.of(method("greet", String.class, int.class), handlers).invoke(new Object[]{"ab", 2}));
+        assertEquals(5, RouteInvoker.of(method("add", int.class, long.class), handlers).invoke(new Object[]{2, 3L}));
+        assertEquals("hidden", RouteInvoker.of(method("hidden"), handlers).invoke(new Object[0]));
+    }
+
+    @Test
+    void returnsNullForVoidHandlers() throws Exception {
+        assertNull(RouteInvoker.of(method("record", String.class), handlers).invoke(new Object[]{"x"}));
+        assertEquals(List.of("x"), handlers.calls);
+    }
+
+    @Test
+    void invokesStaticMethodsWithoutATarget() throws Exception {
+        assertEquals("1", RouteInvoker.of(method("version"), null).invoke(new Object[0]));
+    }
+
+    @Test
+    void surfacesHandlerExceptionsUnwrapped() throws Exception {
+        RouteInvoker fail = RouteInvoker.of(method("fail"), handlers);
+        RouteInvoker reject = RouteInvoker.of(method("reject"), handlers);
+
+        assertEquals("disk", assertThrows(IOException.class, () -> fail.invoke(new Object[0])).getMessage());
+        assertEquals("bad", assertThrows(IllegalArgumentException.class, () -> reject.invoke(new Object[0])).getMessage());
+    }
+
+    @Test
+    void rejectsMissingControllerInstances() {
+        assertThrows(IllegalStateException.class, () -> RouteInvoker.of(method("greet", String.class, int.class), null));
+    }
+
+    @Test
+    void routeHandlerResolvesHeadersAndRedirectOnce() throws Exception {
+        RouteHandler moved = new RouteHandler(method("moved"), handlers, 200, new String[0]);
+
+        assertEquals(1, moved.getHeaders().length);
+        assertEquals("Cache-Control: no-store", moved.getHeaders()[0].value());
+        assertTrue(moved.isRedirect());
+        assertEquals("https://example.com", moved.getRedirectUrl());
+        assertEquals(301, moved.getRedirectStatusCode());
+        assertEquals("moved", moved.getInvoker().invoke(new Object[0]));
+
+        RouteHandler plain = new RouteHandler(method("version"), null, 200, new String[0]);
+        assertFalse(plain.isRedirect());
+        assertEquals(0, plain.getHeaders().length);
+    }
+}
@@ -0,0 +1,108 @@
+package io.github._3xhaust.routing;
+
+import io.github._3xhaust.http.HttpMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouterTest {
+    public static class Routes {
+        public String list() {
+            return "list";
+        }
+
+        public String create() {
+            return "create";
+        }
+
+        public String wildcard() {
+            return "wildcard";
+        }
+
+        public String pattern() {
+            return "pattern";
+        }
+
+        public String post() {
+            return "post";
+        }
+
+        public String comment() {
+            return "comment";
+        }
+
+        public String latest() {
+            return "latest";
+        }
+    }
+
+    private final Routes controller = new Routes();
+    private Router router;
+
+    private Method handler(String name) throws NoSuchMethodException {
+        return Routes.class.getMethod(name);
+    }
+
+    private String route(HttpMethod method, String path) {
+        RouteMatch match = router.match(method, path);
+        return match == null ? null : match.getHandler().getHandlerMethod().getName();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        router = new Router();
+        router.registerRoute(HttpMethod.GET, "/posts", controller, handler("list"), 200);
+        router.registerRoute(HttpMethod.POST, "/posts/", controller, handler("create"), 201);
+        router.registerRoute(HttpMethod.GET, "/files/*/raw", controller, handler("wildcard"), 200);
+        router.registerRoute(HttpMethod.GET, "/ab*cd", controller, handler("pattern"), 200);
+        router.registerRoute(HttpMethod.GET, "/posts/:id", controller, handler("post"), 200);
+        router.registerRoute(HttpMethod.GET, "/posts/{postId}/comments/:commentId", controller, handler("comment"), 200);
+        router.registerRoute(HttpMethod.GET, "/posts/latest", controller, handler("latest"), 200);
+    }
+
+    @Test
+    void matchesStaticRoutesByMethod() {
+        assertEquals("list", route(HttpMethod.GET, "/posts"));
+        assertEquals("create", route(HttpMethod.POST, "/posts"));
+        assertNull(route(HttpMethod.DELETE, "/posts"));
+        assertNull(route(HttpMethod.GET, "/post"));
+    }
+
+    @Test
+    void toleratesRepeatedAndTrailingSlashes() {
+        assertEquals("list", route(HttpMethod.GET, "/posts/"));
+        assertEquals("list", route(HttpMethod.GET, "//posts"));
+    }
+
+    @Test
+    void matchesWildcardSegmentsAndPatterns() {
+        assertEquals("wildcard", route(HttpMethod.GET, "/files/any-name/raw"));
+        assertNull(route(HttpMethod.GET, "/files/raw"));
+        assertNull(route(HttpMethod.GET, "/files/a/b/raw"));
+
+        assertEquals("pattern", route(HttpMethod.GET, "/ab_123_cd"));
+        assertNull(route(HttpMethod.GET, "/ab_123_ce"));
+    }
+
+    @Test
+    void capturesNamedParameters() {
+        RouteMatch match = router.match(HttpMethod.GET, "/posts/42");
+        assertEquals("post", match.getHandler().getHandlerMethod().getName());
+        assertEquals("42", match.getParam("id"));
+        assertNull(match.getParam("missing"));
+
+        RouteMatch nested = router.match(HttpMethod.GET, "/posts/7/comments/9");
+        assertEquals("7", nested.getParam("postId"));
+        assertEquals("9", nested.getParam("commentId"));
+    }
+
+    @Test
+    void prefersStaticSegmentsOverParameters() {
+        assertEquals("latest", route(HttpMethod.GET, "/posts/latest"));
+        assertEquals("post", route(HttpMethod.GET, "/posts/oldest"));
+        assertNull(route(HttpMethod.GET, "/posts/7/comments"));
+    }
+}
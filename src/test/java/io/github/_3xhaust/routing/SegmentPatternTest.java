@@ -0,0 +1,46 @@
+package io.github._3xhaust.routing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentPatternTest {
+    private static boolean matches(String pattern, String segment) {
+        String path = "/x/" + segment + "/y";
+        return new SegmentPattern(pattern).matches(path, 3, 3 + segment.length());
+    }
+
+    @Test
+    void matchesPrefixAndSuffixAroundAWildcard() {
+        assertTrue(matches("ab*cd", "abcd"));
+        assertTrue(matches("ab*cd", "ab_cd"));
+        assertTrue(matches("ab*cd", "ab1234cd"));
+        assertFalse(matches("ab*cd", "abc"));
+        assertFalse(matches("ab*cd", "xabcd"));
+        assertFalse(matches("ab*cd", "abcdx"));
+    }
+
+    @Test
+    void prefixAndSuffixMustNotOverlap() {
+        assertFalse(matches("aba*aba", "ababa"));
+        assertTrue(matches("aba*aba", "abaaba"));
+    }
+
+    @Test
+    void matchesMiddlePiecesInOrder() {
+        assertTrue(matches("a*b*c", "a1b2c"));
+        assertTrue(matches("a*b*c", "abc"));
+        assertFalse(matches("a*b*c", "acb"));
+        assertFalse(matches("a*bc*d", "abd"));
+    }
+
+    @Test
+    void onlyLooksInsideTheGivenSegment() {
+        SegmentPattern pattern = new SegmentPattern("file*");
+        String path = "/file/files";
+
+        assertTrue(pattern.matches(path, 1, 5));
+        assertTrue(pattern.matches(path, 6, 11));
+        assertFalse(new SegmentPattern("*s").matches(path, 1, 5));
+    }
+}
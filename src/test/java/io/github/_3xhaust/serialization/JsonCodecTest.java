@@ -0,0 +1,189 @@
+package io.github._3xhaust.serialization;
+
+import io.github._3xhaust.server.ServerExchange;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonCodecTest {
+    public static final class Point {
+        public int x = 1;
+        public int y = 2;
+    }
+
+    public static class Animal {
+        public String name = "rex";
+    }
+
+    public static class Dog extends Animal {
+        public boolean goodBoy = true;
+    }
+
+    public Point point() {
+        return null;
+    }
+
+    public CompletableFuture<Point> futurePoint() {
+        return null;
+    }
+
+    public Animal animal() {
+        return null;
+    }
+
+    public String text() {
+        return null;
+    }
+
+    public List<Point> points() {
+        return null;
+    }
+
+    private static class RecordingExchange {
+        final Map<String, String> headers = new HashMap<>();
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        int status;
+        long contentLength;
+        boolean aborted;
+
+        ServerExchange proxy() {
+            return (ServerExchange) Proxy.newProxyInstance(ServerExchange.class.getClassLoader(), new Class<?>[]{ServerExchange.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "setResponseHeader", "addResponseHeader" -> {
+                            headers.put((String) args[0], (String) args[1]);
+                            yield null;
+                        }
+                        case "sendResponseHeaders" -> {
+                            status = (Integer) args[0];
+                            contentLength = (Long) args[1];
+                            yield null;
+                        }
+                        case "getResponseBody" -> body;
+                        case "abort" -> {
+                            aborted = true;
+                            yield null;
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+    }
+
+    private static Method returning(String name) throws NoSuchMethodException {
+        return JsonCodecTest.class.getMethod(name);
+    }
+
+    @Test
+    void prettyAndCompactProfilesFormatDifferently() throws Exception {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("a", 1);
+        value.put("b", List.of(2));
+
+        assertEquals("{\"a\":1,\"b\":[2]}", new JsonCodec(JsonCodec.Profile.COMPACT).writerForValue(value).writeValueAsString(value));
+        JsonCodec pretty = new JsonCodec(JsonCodec.Profile.PRETTY);
+        String indented = pretty.writerForValue(value).writeValueAsString(value);
+        assertTrue(indented.startsWith("{\n  \"a\""));
+        assertTrue(indented.contains("[\n    2\n  ]"));
+        assertEquals(value, pretty.getObjectMapper().readValue(indented, Map.class));
+    }
+
+    @Test
+    void cachesReadersAndWritersPerType() throws Exception {
+        JsonCodec codec = new JsonCodec(JsonCodec.Profile.COMPACT);
+
+        assertSame(codec.readerFor(Point.class), codec.readerFor(Point.class));
+        assertSame(codec.writerFor(Point.class), codec.writerFor(Point.class));
+        assertSame(codec.writerForValue(new Point()), codec.writerFor(Point.class));
+
+        List<Point> points = codec.readerFor(returning("points").getGenericReturnType()).readValue("[{\"x\":5,\"y\":6}]");
+        assertEquals(5, points.get(0).x);
+    }
+
+    @Test
+    void resolvesWritersUpFrontOnlyForFinalReturnTypes() throws Exception {
+        JsonCodec codec = new JsonCodec(JsonCodec.Profile.COMPACT);
+
+        assertSame(codec.writerFor(Point.class), codec.writerForReturnType(returning("point").getGenericReturnType()));
+        assertSame(codec.writerFor(Point.class), codec.writerForReturnType(returning("futurePoint").getGenericReturnType()));
+        assertNull(codec.writerForReturnType(returning("animal").getGenericReturnType()));
+        assertNull(codec.writerForReturnType(returning("text").getGenericReturnType()));
+        assertNull(codec.writerForReturnType(returning("points").getGenericReturnType()));
+    }
+
+    @Test
+    void keepsSubclassPropertiesForNonFinalTypes() throws Exception {
+        JsonCodec codec = new JsonCodec(JsonCodec.Profile.COMPACT);
+        Animal dog = new Dog();
+
+        assertEquals("{\"name\":\"rex\",\"goodBoy\":true}", codec.writerForValue(dog).writeValueAsString(dog));
+    }
+
+    @Test
+    void writesResponsesWithAKnownContentLength() throws Exception {
+        JsonCodec codec = new JsonCodec(JsonCodec.Profile.COMPACT);
+        RecordingExchange exchange = new RecordingExchange();
+
+        codec.write(exchange.proxy(), 201, null, Map.of("name", "café"));
+
+        String expected = "{\"name\":\"café\"}";
+        assertEquals(201, exchange.status);
+        assertEquals(expected.getBytes(StandardCharsets.UTF_8).length, exchange.contentLength);
+        assertEquals("application/json; charset=utf-8", exchange.headers.get("Content-Type"));
+        assertEquals(expected, exchange.body.toString(StandardCharsets.UTF_8));
+
+        RecordingExchange second = new RecordingExchange();
+        codec.write(second.proxy(), 200, codec.writerFor(Point.class), new Point());
+        assertEquals("{\"x\":1,\"y\":2}", second.body.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void streamsElementsAsAChunkedJsonArray() throws Exception {
+        JsonCodec codec = new JsonCodec(JsonCodec.Profile.COMPACT);
+        RecordingExchange exchange = new RecordingExchange();
+        AtomicBoolean closed = new AtomicBoolean();
+
+        codec.writeStream(exchange.proxy(), 200, Stream.of(new Point(), Map.of("z", 3)).onClose(() -> closed.set(true)));
+
+        assertEquals(200, exchange.status);
+        assertEquals(0, exchange.contentLength);
+        assertEquals("[{\"x\":1,\"y\":2},{\"z\":3}]", exchange.body.toString(StandardCharsets.UTF_8));
+        assertTrue(closed.get());
+
+        RecordingExchange empty = new RecordingExchange();
+        codec.writeStream(empty.proxy(), 200, Stream.empty());
+        assertEquals("[]", empty.body.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void abortsTheExchangeAndRethrowsWhenTheStreamFails() {
+        JsonCodec codec = new JsonCodec(JsonCodec.Profile.COMPACT);
+        RecordingExchange exchange = new RecordingExchange();
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Object> failing = Stream.<Object>of(1, 2, 3)
+                .map(value -> {
+                    if (value.equals(3)) {
+                        throw new IllegalStateException("cursor lost");
+                    }
+                    return value;
+                })
+                .onClose(() -> closed.set(true));
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> codec.writeStream(exchange.proxy(), 200, failing));
+
+        assertEquals("cursor lost", failure.getMessage());
+        assertTrue(exchange.aborted);
+        assertTrue(closed.get());
+        assertFalse(exchange.body.toString(StandardCharsets.UTF_8).endsWith("]"));
+    }
+}
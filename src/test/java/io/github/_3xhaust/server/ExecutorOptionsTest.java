@@ -0,0 +1,103 @@
+package io.github._3xhaust.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutorOptionsTest {
+    @Test
+    void defaultsToTenPlatformThreads() {
+        ExecutorOptions options = new ExecutorOptions();
+
+        assertEquals(ExecutorOptions.Mode.PLATFORM, options.getMode());
+        assertEquals(10, options.getThreads());
+        assertEquals("10 platform threads", options.describe());
+    }
+
+    @Test
+    void readsTheOptionsMap() {
+        ExecutorOptions options = new ExecutorOptions(Map.of(
+                "mode", " Platform ",
+                "threads", 4,
+                "queueCapacity", 100,
+                "threadNamePrefix", "api"
+        ));
+
+        assertEquals(ExecutorOptions.Mode.PLATFORM, options.getMode());
+        assertEquals(4, options.getThreads());
+        assertEquals(100, options.getQueueCapacity());
+        assertEquals("api", options.getThreadNamePrefix());
+        assertEquals("4 platform threads, queue 100", options.describe());
+        assertEquals(ExecutorOptions.Mode.VIRTUAL, new ExecutorOptions(Map.of("mode", "virtual")).getMode());
+    }
+
+    @Test
+    void rejectsInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> new ExecutorOptions(Map.of("mode", "fibers")));
+        assertThrows(IllegalArgumentException.class, () -> new ExecutorOptions(Map.of("mode", 1)));
+        assertThrows(IllegalArgumentException.class, () -> new ExecutorOptions(Map.of("threads", 0)));
+        assertThrows(IllegalArgumentException.class, () -> new ExecutorOptions(Map.of("threads", "8")));
+        assertThrows(IllegalArgumentException.class, () -> new ExecutorOptions(Map.of("queueCapacity", -1)));
+        assertThrows(IllegalArgumentException.class, () -> new ExecutorOptions(Map.of("threadNamePrefix", 7)));
+    }
+
+    @Test
+    void createsANamedFixedPlatformPool() throws Exception {
+        ExecutorService executor = new ExecutorOptions(Map.of("threads", 3, "threadNamePrefix", "api")).createExecutor();
+        try {
+            ThreadPoolExecutor pool = assertInstanceOf(ThreadPoolExecutor.class, executor);
+            assertEquals(3, pool.getCorePoolSize());
+            assertEquals(3, pool.getMaximumPoolSize());
+
+            Thread thread = executor.submit(Thread::currentThread).get();
+            assertTrue(thread.getName().startsWith("api-"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void runsEachTaskOnAVirtualThreadWhenAvailable() throws Exception {
+        ExecutorOptions options = new ExecutorOptions(Map.of("mode", "virtual"));
+        ExecutorService executor = options.createExecutor();
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get();
+            boolean virtual = (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+            assertTrue(virtual);
+            assertEquals("virtual threads", options.describe());
+        } catch (NoSuchMethodException e) {
+            assertInstanceOf(ThreadPoolExecutor.class, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsWorkOnceTheQueueIsFull() {
+        ExecutorService executor = new ExecutorOptions(Map.of("threads", 1, "queueCapacity", 1)).createExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            executor.execute(() -> {
+            });
+
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+            }));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
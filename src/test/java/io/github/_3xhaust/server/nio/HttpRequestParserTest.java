@@ -0,0 +1,113 @@
+package io.github._3xhaust.server.nio;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpRequestParserTest {
+    private static HttpRequestParser parserWith(String raw) {
+        HttpRequestParser parser = new HttpRequestParser();
+        parser.append(ByteBuffer.wrap(raw.getBytes(StandardCharsets.ISO_8859_1)));
+        return parser;
+    }
+
+    private static int statusOf(String raw) {
+        HttpParseException error = assertThrows(HttpParseException.class, () -> parserWith(raw).next());
+        return error.getStatusCode();
+    }
+
+    @Test
+    void parsesRequestLineHeadersAndQuery() throws Exception {
+        NioRequest request = parserWith("GET /posts/1?sort=id HTTP/1.1\r\nHost: x\r\nX-Test: a\r\n\r\n").next();
+
+        assertEquals("GET", request.method);
+        assertEquals("/posts/1", request.path);
+        assertEquals("sort=id", request.query);
+        assertEquals("a", request.getHeader("x-test"));
+        assertTrue(request.keepAlive);
+        assertEquals(0, request.body.length);
+    }
+
+    @Test
+    void waitsForTheWholeContentLengthBody() throws Exception {
+        HttpRequestParser parser = parserWith("POST / HTTP/1.1\r\nContent-Length: 5\r\n\r\nab");
+        assertNull(parser.next());
+
+        parser.append(ByteBuffer.wrap("cde".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals("abcde", new String(parser.next().body, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void decodesChunkedBodiesWithExtensionsAndTrailers() throws Exception {
+        NioRequest request = parserWith("POST / HTTP/1.1\r\nTransfer-Encoding: chunked\r\n\r\n"
+                + "3;name=value\r\nabc\r\nA\r\n0123456789\r\n0\r\nX-Trailer: 1\r\n\r\n").next();
+
+        assertEquals("abc0123456789", new String(request.body, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void waitsForIncompleteChunks() throws Exception {
+        HttpRequestParser parser = parserWith("POST / HTTP/1.1\r\nTransfer-Encoding: chunked\r\n\r\n5\r\nab");
+        assertNull(parser.next());
+
+        parser.append(ByteBuffer.wrap("cde\r\n0\r\n\r\n".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals("abcde", new String(parser.next().body, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void resumesChunkedDecodingAfterTheBufferIsCompacted() throws Exception {
+        HttpRequestParser parser = parserWith("GET /a HTTP/1.1\r\nX-Pad: " + "a".repeat(7000) + "\r\n\r\n"
+                + "POST /b HTTP/1.1\r\nTransfer-Encoding: chunked\r\n\r\n3\r\nabc\r\n");
+        assertEquals("/a", parser.next().path);
+        assertNull(parser.next());
+
+        String tail = "7d0\r\n" + "b".repeat(2000) + "\r\n0\r\n\r\n";
+        for (byte value : tail.getBytes(StandardCharsets.US_ASCII)) {
+            assertNull(parser.next());
+            parser.append(ByteBuffer.wrap(new byte[]{value}));
+        }
+        assertEquals("abc" + "b".repeat(2000), new String(parser.next().body, StandardCharsets.US_ASCII));
+        assertFalse(parser.hasBufferedData());
+    }
+
+    @Test
+    void parsesPipelinedRequestsInOrder() throws Exception {
+        HttpRequestParser parser = parserWith("GET /a HTTP/1.1\r\n\r\nGET /b HTTP/1.0\r\n\r\n");
+
+        assertEquals("/a", parser.next().path);
+        NioRequest second = parser.next();
+        assertEquals("/b", second.path);
+        assertFalse(second.keepAlive);
+        assertFalse(parser.hasBufferedData());
+    }
+
+    @Test
+    void rejectsNegativeAndOverflowingChunkSizes() {
+        String head = "POST / HTTP/1.1\r\nTransfer-Encoding: chunked\r\n\r\n";
+
+        assertEquals(400, statusOf(head + "-1\r\nabc\r\n0\r\n\r\n"));
+        assertEquals(400, statusOf(head + "zz\r\nabc\r\n0\r\n\r\n"));
+        assertEquals(400, statusOf(head + "ffffffffffffffffff\r\nabc\r\n0\r\n\r\n"));
+        assertEquals(413, statusOf(head + "80000000\r\nabc\r\n0\r\n\r\n"));
+        assertEquals(413, statusOf(head + "7fffffffffffffff\r\nabc\r\n0\r\n\r\n"));
+    }
+
+    @Test
+    void rejectsMalformedRequests() {
+        assertEquals(400, statusOf("GARBAGE\r\n\r\n"));
+        assertEquals(400, statusOf("GET / HTTP/1.1\r\nNoColon\r\n\r\n"));
+        assertEquals(400, statusOf("POST / HTTP/1.1\r\nContent-Length: -4\r\n\r\n"));
+        assertEquals(400, statusOf("POST / HTTP/1.1\r\nContent-Length: abc\r\n\r\n"));
+        assertEquals(413, statusOf("POST / HTTP/1.1\r\nContent-Length: 999999999\r\n\r\n"));
+        assertEquals(505, statusOf("GET / HTTP/2.0\r\n\r\n"));
+    }
+
+    @Test
+    void rejectsOversizedHeaders() {
+        String raw = "GET / HTTP/1.1\r\nX-Big: " + "a".repeat(HttpRequestParser.MAX_HEADER_SIZE) + "\r\n";
+        assertEquals(431, statusOf(raw));
+    }
+}